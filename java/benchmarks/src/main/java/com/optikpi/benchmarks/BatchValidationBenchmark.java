@@ -0,0 +1,64 @@
+package com.optikpi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.optikpi.datapipeline.BatchValidator;
+import com.optikpi.datapipeline.ValidationReport;
+import com.optikpi.datapipeline.model.CustomerProfile;
+
+/**
+ * Validating a list of customer profiles one by one versus with BatchValidator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchValidationBenchmark {
+
+    @Param({"10000", "200000"})
+    public int size;
+
+    private List<CustomerProfile> profiles;
+    private BatchValidator validator;
+
+    @Setup
+    public void setup() {
+        profiles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            profiles.add(SampleEvents.customerProfile(i));
+        }
+        validator = new BatchValidator();
+    }
+
+    @Benchmark
+    public int sequential() {
+        int invalid = 0;
+        for (CustomerProfile profile : profiles) {
+            if (!profile.validate().isValid()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public ValidationReport batchValidator() {
+        return validator.validate(profiles);
+    }
+}
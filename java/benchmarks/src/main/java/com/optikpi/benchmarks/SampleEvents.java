@@ -0,0 +1,282 @@
+package com.optikpi.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.optikpi.datapipeline.model.AccountEvent;
+import com.optikpi.datapipeline.model.CustomerProfile;
+import com.optikpi.datapipeline.model.DepositEvent;
+import com.optikpi.datapipeline.model.ExtendedAttributesEvent;
+import com.optikpi.datapipeline.model.GamingActivityEvent;
+import com.optikpi.datapipeline.model.ReferFriendEvent;
+import com.optikpi.datapipeline.model.SystemEvent;
+import com.optikpi.datapipeline.model.WalletBalanceEvent;
+import com.optikpi.datapipeline.model.WithdrawEvent;
+
+/**
+ * Valid, fully populated model instances shared by the benchmarks
+ */
+public final class SampleEvents {
+    static final String ACCOUNT_ID = "bench-account";
+    static final String WORKSPACE_ID = "bench-workspace";
+    static final String AUTH_TOKEN = "bench-auth-token";
+
+    private static final String EVENT_TIME = "2024-01-15T10:30:00Z";
+
+    /**
+     * Model types, used as a JMH parameter
+     */
+    public enum Model {
+        CUSTOMER_PROFILE,
+        EXTENDED_ATTRIBUTES,
+        ACCOUNT_EVENT,
+        DEPOSIT_EVENT,
+        WITHDRAW_EVENT,
+        GAMING_ACTIVITY_EVENT,
+        REFER_FRIEND_EVENT,
+        WALLET_BALANCE_EVENT,
+        SYSTEM_EVENT;
+
+        Object create(int index) {
+            switch (this) {
+                case CUSTOMER_PROFILE: return customerProfile(index);
+                case EXTENDED_ATTRIBUTES: return extendedAttributes(index);
+                case ACCOUNT_EVENT: return accountEvent(index);
+                case DEPOSIT_EVENT: return depositEvent(index);
+                case WITHDRAW_EVENT: return withdrawEvent(index);
+                case GAMING_ACTIVITY_EVENT: return gamingActivityEvent(index);
+                case REFER_FRIEND_EVENT: return referFriendEvent(index);
+                case WALLET_BALANCE_EVENT: return walletBalanceEvent(index);
+                case SYSTEM_EVENT: return systemEvent(index);
+                default: throw new IllegalArgumentException("Unknown model: " + this);
+            }
+        }
+    }
+
+    private SampleEvents() {}
+
+    static CustomerProfile customerProfile(int index) {
+        CustomerProfile customer = new CustomerProfile();
+        customer.setAccountId(ACCOUNT_ID);
+        customer.setWorkspaceId(WORKSPACE_ID);
+        customer.setUserId("user_" + index);
+        customer.setUsername("john_doe_" + index);
+        customer.setFullName("John Doe");
+        customer.setFirstName("John");
+        customer.setLastName("Doe");
+        customer.setDateOfBirth("1990-01-15");
+        customer.setEmail("john.doe" + index + "@example.com");
+        customer.setPhoneNumber("+1234567890");
+        customer.setGender("Male");
+        customer.setCountry("United States");
+        customer.setCity("New York");
+        customer.setLanguage("en");
+        customer.setCurrency("USD");
+        customer.setPhoneVerification("Verified");
+        customer.setEmailVerification("Verified");
+        customer.setBankVerification("NotVerified");
+        customer.setIddocVerification("Verified");
+        customer.setMarketingEmailPreference("Opt-in");
+        customer.setNotificationsPreference("Opt-in");
+        customer.setSubscription("Subscribed");
+        customer.setPrivacySettings("private");
+        customer.setDepositLimits(1000.00);
+        customer.setLossLimits(500.00);
+        customer.setWageringLimits(2000.00);
+        customer.setSessionTimeLimits(120);
+        customer.setCoolingOffExpiryDate("2024-12-31T23:59:59Z");
+        customer.setSelfExclusionExpiryDate("2025-01-31T23:59:59Z");
+        customer.setRealityChecksNotification("daily");
+        customer.setVipStatus("Regular");
+        customer.setLoyaltyProgramTiers("Bronze");
+        customer.setAccountStatus("Active");
+        customer.setBonusAbuser("Not flagged");
+        customer.setFinancialRiskLevel(0.3);
+        customer.setAcquisitionSource("Google Ads");
+        customer.setPartnerId("partner123");
+        customer.setReferralLinkCode("REF789");
+        customer.setReferralLimitReached("Not Reached");
+        customer.setCreationTimestamp(EVENT_TIME);
+        customer.setRiskScoreLevel("low");
+        customer.setMarketingSmsPreference("Opt-in");
+        Map<String, Object> customData = new HashMap<>();
+        customData.put("favorite_game", "slots");
+        customData.put("newsletter_frequency", "weekly");
+        customer.setCustomData(customData);
+        customer.setSelfExclusionBy("player");
+        customer.setSelfExclusionByType("voluntary");
+        customer.setSelfExclusionCheckTime(EVENT_TIME);
+        customer.setSelfExclusionCreatedTime("2024-01-01T00:00:00Z");
+        customer.setRealMoneyEnabled("true");
+        customer.setPushToken("push_token_abc123");
+        return customer;
+    }
+
+    static ExtendedAttributesEvent extendedAttributes(int index) {
+        ExtendedAttributesEvent event = new ExtendedAttributesEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setListName("BINGO_PREFERENCES");
+        Map<String, String> extData = new HashMap<>();
+        extData.put("Email", "True");
+        extData.put("SMS", "True");
+        extData.put("PushNotifications", "False");
+        event.setExtData(extData);
+        return event;
+    }
+
+    static AccountEvent accountEvent(int index) {
+        AccountEvent event = new AccountEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Account");
+        event.setEventName("Player Registration");
+        event.setEventId("evt_acc_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setAffiliateId("aff_001");
+        event.setPartnerId("partner_001");
+        event.setDevice("desktop");
+        event.setCampaignCode("CAMPAIGN_001");
+        event.setStatus("completed");
+        event.setReason("Registration completed successfully");
+        return event;
+    }
+
+    static DepositEvent depositEvent(int index) {
+        DepositEvent event = new DepositEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Deposit");
+        event.setEventName("Successful Deposit");
+        event.setEventId("evt_dep_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setPaymentMethod("bank");
+        event.setTransactionId("txn_" + index);
+        event.setAmount(new BigDecimal("100.00"));
+        event.setPaymentProviderId("provider123");
+        event.setPaymentProviderName("Chase Bank");
+        return event;
+    }
+
+    static WithdrawEvent withdrawEvent(int index) {
+        WithdrawEvent event = new WithdrawEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Withdraw");
+        event.setEventName("Successful Withdrawal");
+        event.setEventId("evt_wd_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setAmount(new BigDecimal("50.00"));
+        event.setPaymentMethod("bank");
+        event.setTransactionId("txn_" + index);
+        return event;
+    }
+
+    static GamingActivityEvent gamingActivityEvent(int index) {
+        GamingActivityEvent event = new GamingActivityEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Gaming Activity");
+        event.setEventName("Play Casino Game");
+        event.setEventId("evt_ga_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setWagerAmount(new BigDecimal("10.00"));
+        event.setWinAmount(new BigDecimal("25.00"));
+        event.setLossAmount(new BigDecimal("0.00"));
+        event.setGameId("game_001");
+        event.setGameTitle("Mega Fortune Slots");
+        event.setProvider("ProviderXYZ");
+        event.setBonusId("bonus_12345");
+        event.setFreeSpinId("freespin_67890");
+        event.setJackpotAmount(new BigDecimal("1000.00"));
+        event.setNumSpinsPlayed(50);
+        event.setGameTheme("Egyptian");
+        event.setRemainingSpins(10);
+        event.setBetValuePerSpin(new BigDecimal("0.50"));
+        event.setWageringRequirementsMet(true);
+        event.setFreeSpinExpiryDate("2024-12-31T23:59:59Z");
+        event.setCampaignId("camp_summer2024");
+        event.setCampaignName("Summer Bonanza");
+        event.setRtp(new BigDecimal("96.5"));
+        event.setGameCategory("slots");
+        event.setWinningBetAmount(new BigDecimal("25.00"));
+        event.setJackpotType("progressive");
+        event.setVolatility("high");
+        event.setMinBet(new BigDecimal("0.10"));
+        event.setMaxBet(new BigDecimal("100.00"));
+        event.setNumberOfReels(5);
+        event.setNumberOfPaylines(20);
+        event.setFeatureTypes("wild,scatter,freespins");
+        event.setGameReleaseDate("2023-01-15T00:00:00Z");
+        event.setLiveDealerAvailability(false);
+        event.setSideBetsAvailability(true);
+        event.setMultiplayerOption(false);
+        event.setAutoPlay(true);
+        event.setBonusType("welcome_bonus");
+        event.setBonusAmount(new BigDecimal("100.00"));
+        event.setParentGameCategory("casino");
+        event.setCurrency("USD");
+        event.setMoneyType("real");
+        event.setTransactionType("bet");
+        return event;
+    }
+
+    static ReferFriendEvent referFriendEvent(int index) {
+        ReferFriendEvent event = new ReferFriendEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Refer Friend");
+        event.setEventName("Referral Successful");
+        event.setEventId("evt_rf_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setReferralCodeUsed("REF123456");
+        event.setSuccessfulReferralConfirmation(true);
+        event.setRewardType("bonus");
+        event.setRewardClaimedStatus("claimed");
+        event.setRefereeUserId("referee_" + index);
+        event.setRefereeRegistrationDate(EVENT_TIME);
+        event.setRefereeFirstDeposit(100.00);
+        return event;
+    }
+
+    static WalletBalanceEvent walletBalanceEvent(int index) {
+        WalletBalanceEvent event = new WalletBalanceEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setUserId("user_" + index);
+        event.setEventCategory("Wallet Balance");
+        event.setEventName("Current Balance");
+        event.setEventId("evt_wb_" + index);
+        event.setEventTime(EVENT_TIME);
+        event.setWalletType("main");
+        event.setCurrency("USD");
+        event.setCurrentCashBalance(new BigDecimal("1250.50"));
+        event.setCurrentBonusBalance(new BigDecimal("100.00"));
+        event.setCurrentTotalBalance(new BigDecimal("1350.50"));
+        event.setBlockedAmount(new BigDecimal("50.00"));
+        return event;
+    }
+
+    static SystemEvent systemEvent(int index) {
+        SystemEvent event = new SystemEvent();
+        event.setAccountId(ACCOUNT_ID);
+        event.setWorkspaceId(WORKSPACE_ID);
+        event.setEventCategory("SystemEvent");
+        event.setEventName("Campaign Trigger");
+        event.setEventId("evt_sys_" + index);
+        event.setEventTime(EVENT_TIME);
+        Map<String, Object> eventData = new HashMap<>();
+        eventData.put("campaign_id", "camp_001");
+        eventData.put("action", "start");
+        eventData.put("segment", "vip");
+        event.setEventData(eventData);
+        return event;
+    }
+}
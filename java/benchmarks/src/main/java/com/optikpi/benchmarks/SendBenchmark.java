@@ -0,0 +1,114 @@
+package com.optikpi.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.optikpi.datapipeline.ApiResponse;
+import com.optikpi.datapipeline.ClientConfig;
+import com.optikpi.datapipeline.HttpProtocol;
+import com.optikpi.datapipeline.OptikpiDataPipelineSDK;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Full send round trip (serialize, sign, HTTP, parse response) against an
+ * in-process JDK HttpServer that drains the body and answers 200
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SendBenchmark {
+
+    private static final byte[] RESPONSE = "{\"message\":\"accepted\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private OptikpiDataPipelineSDK sdk;
+    private Object payload;
+
+    @Setup
+    public void setup() throws IOException {
+        // Without TCP_NODELAY the stand-in adds a delayed-ACK stall to every response
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", SendBenchmark::accept);
+        serverExecutor = Executors.newFixedThreadPool(4);
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        ClientConfig config = new ClientConfig(SampleEvents.AUTH_TOKEN, SampleEvents.ACCOUNT_ID, SampleEvents.WORKSPACE_ID);
+        config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        // The JDK server speaks HTTP/1.1 only
+        config.setProtocol(HttpProtocol.HTTP_1_1);
+        config.setStreamingSerialization(streaming);
+        sdk = new OptikpiDataPipelineSDK(config);
+
+        if (batchSize == 1) {
+            payload = SampleEvents.gamingActivityEvent(0);
+        } else {
+            List<Object> events = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                events.add(SampleEvents.gamingActivityEvent(i));
+            }
+            payload = events;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        sdk.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ApiResponse<Object> sendGamingActivityEvent() {
+        ApiResponse<Object> response = sdk.sendGamingActivityEvent(payload);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Send failed: " + response.getError());
+        }
+        return response;
+    }
+
+    private static void accept(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESPONSE.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(RESPONSE);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.optikpi.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.optikpi.datapipeline.codegen.JsonWriterRegistry;
+import com.optikpi.datapipeline.codegen.ModelJsonWriter;
+
+/**
+ * Serialization cost of each model, alone and as a batch array
+ *
+ * The mapper is configured like the one inside DataPipelineClient. The typed variants
+ * use a writer resolved for the model class, or List of it, as the client caches them;
+ * the generated variants use the compile-time generated ModelJsonWriter the client
+ * prefers for SDK models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param
+    public SampleEvents.Model model;
+
+    @Param({"1", "100", "10000"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private ObjectMapper mapper;
+    private ObjectWriter typedWriter;
+    private ModelJsonWriter<Object> generatedWriter;
+    private Object payload;
+
+    @Setup
+    public void setup() {
+        mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, false);
+        if (blackbird) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+
+        generatedWriter = generatedWriter(model.create(0).getClass());
+        if (batchSize == 1) {
+            payload = model.create(0);
+            typedWriter = mapper.writerFor(payload.getClass());
+        } else {
+            List<Object> events = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                events.add(model.create(i));
+            }
+            payload = events;
+            typedWriter = mapper.writerFor(mapper.getTypeFactory()
+                    .constructCollectionType(List.class, events.get(0).getClass()));
+        }
+    }
+
+    @Benchmark
+    public String writeValueAsString() throws JsonProcessingException {
+        return mapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] typedWriteValueAsBytes() throws JsonProcessingException {
+        return typedWriter.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] generatedWriteValueAsBytes() throws IOException {
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder();
+             JsonGenerator gen = mapper.createGenerator(bytes, JsonEncoding.UTF8)) {
+            if (payload instanceof List) {
+                List<?> events = (List<?>) payload;
+                gen.writeStartArray(events, events.size());
+                for (Object event : events) {
+                    generatedWriter.write(event, gen);
+                }
+                gen.writeEndArray();
+            } else {
+                generatedWriter.write(payload, gen);
+            }
+            gen.flush();
+            return bytes.toByteArray();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelJsonWriter<Object> generatedWriter(Class<?> type) {
+        for (JsonWriterRegistry registry : ServiceLoader.load(JsonWriterRegistry.class)) {
+            for (ModelJsonWriter<?> writer : registry.writers()) {
+                if (writer.type() == type) {
+                    return (ModelJsonWriter<Object>) writer;
+                }
+            }
+        }
+        throw new IllegalStateException("No generated writer for " + type.getName());
+    }
+}
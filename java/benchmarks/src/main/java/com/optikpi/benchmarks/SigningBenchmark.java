@@ -0,0 +1,62 @@
+package com.optikpi.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.optikpi.datapipeline.crypto.CryptoUtils;
+import com.optikpi.datapipeline.crypto.HmacSigner;
+
+/**
+ * HMAC request signing across payload sizes
+ *
+ * {@link #generateHmacSignature()} includes the HKDF key derivation done per call by
+ * CryptoUtils; {@link #signerSign()} is the path the client takes with its cached key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningBenchmark {
+
+    @Param({"1024", "65536", "1048576", "10485760"})
+    public int payloadBytes;
+
+    private String payload;
+    private byte[] payloadBytesUtf8;
+    private HmacSigner signer;
+
+    @Setup
+    public void setup() {
+        char[] chars = new char[payloadBytes];
+        Arrays.fill(chars, 'a');
+        payload = new String(chars);
+        payloadBytesUtf8 = payload.getBytes(StandardCharsets.UTF_8);
+        signer = new HmacSigner(SampleEvents.AUTH_TOKEN, SampleEvents.ACCOUNT_ID, SampleEvents.WORKSPACE_ID);
+    }
+
+    @Benchmark
+    public String generateHmacSignature() {
+        return CryptoUtils.generateHmacSignature(
+            payload, SampleEvents.AUTH_TOKEN, SampleEvents.ACCOUNT_ID, SampleEvents.WORKSPACE_ID);
+    }
+
+    @Benchmark
+    public String signerSign() {
+        return signer.sign(payloadBytesUtf8);
+    }
+}
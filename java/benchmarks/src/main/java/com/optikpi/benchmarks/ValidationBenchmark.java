@@ -0,0 +1,110 @@
+package com.optikpi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.optikpi.datapipeline.model.AccountEvent;
+import com.optikpi.datapipeline.model.CustomerProfile;
+import com.optikpi.datapipeline.model.DepositEvent;
+import com.optikpi.datapipeline.model.ExtendedAttributesEvent;
+import com.optikpi.datapipeline.model.GamingActivityEvent;
+import com.optikpi.datapipeline.model.ReferFriendEvent;
+import com.optikpi.datapipeline.model.SystemEvent;
+import com.optikpi.datapipeline.model.ValidationResult;
+import com.optikpi.datapipeline.model.WalletBalanceEvent;
+import com.optikpi.datapipeline.model.WithdrawEvent;
+
+/**
+ * validate() of every model on a valid instance
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private CustomerProfile customerProfile;
+    private ExtendedAttributesEvent extendedAttributes;
+    private AccountEvent accountEvent;
+    private DepositEvent depositEvent;
+    private WithdrawEvent withdrawEvent;
+    private GamingActivityEvent gamingActivityEvent;
+    private ReferFriendEvent referFriendEvent;
+    private WalletBalanceEvent walletBalanceEvent;
+    private SystemEvent systemEvent;
+
+    @Setup
+    public void setup() {
+        customerProfile = SampleEvents.customerProfile(0);
+        extendedAttributes = SampleEvents.extendedAttributes(0);
+        accountEvent = SampleEvents.accountEvent(0);
+        depositEvent = SampleEvents.depositEvent(0);
+        withdrawEvent = SampleEvents.withdrawEvent(0);
+        gamingActivityEvent = SampleEvents.gamingActivityEvent(0);
+        referFriendEvent = SampleEvents.referFriendEvent(0);
+        walletBalanceEvent = SampleEvents.walletBalanceEvent(0);
+        systemEvent = SampleEvents.systemEvent(0);
+    }
+
+    @Benchmark
+    public ValidationResult customerProfile() {
+        return customerProfile.validate();
+    }
+
+    @Benchmark
+    public ValidationResult extendedAttributes() {
+        return extendedAttributes.validate();
+    }
+
+    @Benchmark
+    public boolean depositEventIsValid() {
+        return depositEvent.isValid();
+    }
+
+    @Benchmark
+    public ValidationResult accountEvent() {
+        return accountEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult depositEvent() {
+        return depositEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult withdrawEvent() {
+        return withdrawEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult gamingActivityEvent() {
+        return gamingActivityEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult referFriendEvent() {
+        return referFriendEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult walletBalanceEvent() {
+        return walletBalanceEvent.validate();
+    }
+
+    @Benchmark
+    public ValidationResult systemEvent() {
+        return systemEvent.validate();
+    }
+}
@@ -1,5 +1,6 @@
 package com.optikpi.datapipeline;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Instant;
 
@@ -66,6 +67,15 @@ public class ApiResponse<T> {
         this.data = data;
     }
     
+    /**
+     * @return Undecoded JSON body of a successful response, or null unless the client
+     *         keeps response bodies, see {@link ResponseMode#LAZY}
+     */
+    @JsonIgnore
+    public byte[] getRawBody() {
+        return null;
+    }
+    
     public String getError() {
         return error;
     }
@@ -2,6 +2,9 @@ package com.optikpi.datapipeline;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Response for batch operations
@@ -37,9 +40,15 @@ public class BatchResponse {
     @JsonProperty("systemEvents")
     private ApiResponse<Object> systemEvents;
     
+    @JsonProperty("chunks")
+    private Map<String, List<ChunkResult>> chunks = new LinkedHashMap<>();
+    
     @JsonProperty("timestamp")
     private Instant timestamp;
     
+    @JsonProperty("validationReport")
+    private ValidationReport validationReport;
+    
     public BatchResponse() {}
     
     // Getters and Setters
@@ -123,6 +132,18 @@ public class BatchResponse {
         this.systemEvents = systemEvents;
     }
 
+    /**
+     * Per-chunk outcomes keyed by section name (e.g. "gamingEvents"), with the item range
+     * each request covered
+     */
+    public Map<String, List<ChunkResult>> getChunks() {
+        return chunks;
+    }
+    
+    public void setChunks(Map<String, List<ChunkResult>> chunks) {
+        this.chunks = chunks;
+    }
+    
     public Instant getTimestamp() {
         return timestamp;
     }
@@ -130,4 +151,15 @@ public class BatchResponse {
     public void setTimestamp(Instant timestamp) {
         this.timestamp = timestamp;
     }
+
+    /**
+     * @return Items left out because they failed validation, null unless stripInvalidBatchItems is set
+     */
+    public ValidationReport getValidationReport() {
+        return validationReport;
+    }
+    
+    public void setValidationReport(ValidationReport validationReport) {
+        this.validationReport = validationReport;
+    }
 }
@@ -0,0 +1,37 @@
+package com.optikpi.datapipeline;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Maps a BatchData list to its endpoint and BatchResponse slot
+ */
+final class BatchSection {
+    static final List<BatchSection> ALL = List.of(
+        new BatchSection("customers", Endpoints.CUSTOMERS, BatchData::getCustomers, BatchData::setCustomers, BatchResponse::setCustomers),
+        new BatchSection("extendedAttributes", Endpoints.EXTENDED_ATTRIBUTES, BatchData::getExtendedAttributes, BatchData::setExtendedAttributes, BatchResponse::setExtendedAttributes),
+        new BatchSection("accountEvents", Endpoints.ACCOUNT_EVENTS, BatchData::getAccountEvents, BatchData::setAccountEvents, BatchResponse::setAccountEvents),
+        new BatchSection("depositEvents", Endpoints.DEPOSIT_EVENTS, BatchData::getDepositEvents, BatchData::setDepositEvents, BatchResponse::setDepositEvents),
+        new BatchSection("withdrawEvents", Endpoints.WITHDRAW_EVENTS, BatchData::getWithdrawEvents, BatchData::setWithdrawEvents, BatchResponse::setWithdrawEvents),
+        new BatchSection("gamingEvents", Endpoints.GAMING_ACTIVITY_EVENTS, BatchData::getGamingEvents, BatchData::setGamingEvents, BatchResponse::setGamingEvents),
+        new BatchSection("referFriendEvents", Endpoints.REFER_FRIEND_EVENTS, BatchData::getReferFriendEvents, BatchData::setReferFriendEvents, BatchResponse::setReferFriendEvents),
+        new BatchSection("walletBalanceEvents", Endpoints.WALLET_BALANCE_EVENTS, BatchData::getWalletBalanceEvents, BatchData::setWalletBalanceEvents, BatchResponse::setWalletBalanceEvents),
+        new BatchSection("systemEvents", Endpoints.SYSTEM_EVENTS, BatchData::getSystemEvents, BatchData::setSystemEvents, BatchResponse::setSystemEvents)
+    );
+    
+    final String name;
+    final String endpoint;
+    final Function<BatchData, List<Object>> items;
+    final BiConsumer<BatchData, List<Object>> setItems;
+    final BiConsumer<BatchResponse, ApiResponse<Object>> result;
+    
+    private BatchSection(String name, String endpoint, Function<BatchData, List<Object>> items,
+                         BiConsumer<BatchData, List<Object>> setItems, BiConsumer<BatchResponse, ApiResponse<Object>> result) {
+        this.name = name;
+        this.endpoint = endpoint;
+        this.items = items;
+        this.setItems = setItems;
+        this.result = result;
+    }
+}
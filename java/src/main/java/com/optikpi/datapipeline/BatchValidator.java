@@ -0,0 +1,198 @@
+package com.optikpi.datapipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.optikpi.datapipeline.model.ErrorCode;
+import com.optikpi.datapipeline.model.Validatable;
+import com.optikpi.datapipeline.model.ValidationError;
+import com.optikpi.datapipeline.model.ValidationResult;
+
+/**
+ * Validates whole lists and batches in parallel
+ *
+ * Lists longer than the split threshold are divided into ranges validated as fork-join
+ * tasks, and the sections of a BatchData are validated concurrently. Models are checked
+ * with their validate() method; null items are reported as {@link ErrorCode#INVALID_ITEM},
+ * while other items such as maps or JSON strings are not checked.
+ */
+public final class BatchValidator {
+    private static final int DEFAULT_THRESHOLD = 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a validator running on the common fork-join pool
+     */
+    public BatchValidator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool Pool running the validation tasks
+     * @param threshold Number of items below which a range is validated on a single thread
+     */
+    public BatchValidator(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be at least 1");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Validates every item of a list; errors have a null section
+     */
+    public ValidationReport validate(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            return new ValidationReport(0, List.of());
+        }
+        List<ValidationReport.ItemError> errors = run(new RangeTask(null, randomAccess(items), 0, items.size()));
+        return new ValidationReport(items.size(), errors != null ? errors : List.of());
+    }
+
+    /**
+     * Validates every item of every section; errors carry the section name, such as "depositEvents"
+     */
+    public ValidationReport validate(BatchData batchData) {
+        List<RangeTask> tasks = new ArrayList<>();
+        int itemCount = 0;
+        for (BatchSection section : BatchSection.ALL) {
+            List<Object> items = section.items.apply(batchData);
+            if (items != null && !items.isEmpty()) {
+                tasks.add(new RangeTask(section.name, randomAccess(items), 0, items.size()));
+                itemCount += items.size();
+            }
+        }
+
+        List<ValidationReport.ItemError> errors = new ArrayList<>();
+        if (tasks.size() == 1) {
+            addAll(errors, run(tasks.get(0)));
+        } else if (!tasks.isEmpty()) {
+            pool.invoke(new SectionsTask(tasks));
+            for (RangeTask task : tasks) {
+                addAll(errors, task.join());
+            }
+        }
+        return new ValidationReport(itemCount, errors);
+    }
+
+    private List<ValidationReport.ItemError> run(RangeTask task) {
+        // Small lists are not worth a hand-off to the pool
+        return task.to - task.from <= threshold ? task.compute() : pool.invoke(task);
+    }
+
+    private static List<?> randomAccess(List<?> items) {
+        return items instanceof RandomAccess ? items : new ArrayList<>(items);
+    }
+
+    private static void addAll(List<ValidationReport.ItemError> errors, List<ValidationReport.ItemError> more) {
+        if (more != null) {
+            errors.addAll(more);
+        }
+    }
+
+    /**
+     * Validates one item
+     * @return Errors appended to the list, which is created on the first error
+     */
+    private static List<ValidationReport.ItemError> validateItem(String section, int index, Object item,
+                                                                 List<ValidationReport.ItemError> errors) {
+        if (item == null) {
+            return add(errors, new ValidationReport.ItemError(section, index, null, ErrorCode.INVALID_ITEM));
+        }
+        if (!(item instanceof Validatable)) {
+            return errors;
+        }
+
+        Validatable model = (Validatable) item;
+        if (model.isValid()) {
+            return errors;
+        }
+        ValidationResult result = model.validate();
+        if (result.getViolations().isEmpty()) {
+            return add(errors, new ValidationReport.ItemError(section, index, null, ErrorCode.INVALID_ITEM));
+        }
+        for (ValidationError violation : result.getViolations()) {
+            errors = add(errors, new ValidationReport.ItemError(section, index, violation.getField(), violation.getCode()));
+        }
+        return errors;
+    }
+
+    private static List<ValidationReport.ItemError> add(List<ValidationReport.ItemError> errors, ValidationReport.ItemError error) {
+        if (errors == null) {
+            errors = new ArrayList<>();
+        }
+        errors.add(error);
+        return errors;
+    }
+
+    /**
+     * Validates items [from, to) of a list, splitting while the range exceeds the threshold
+     * @return Errors in index order, or null if every item is valid
+     */
+    private final class RangeTask extends RecursiveTask<List<ValidationReport.ItemError>> {
+        private static final long serialVersionUID = 1L;
+
+        private final String section;
+        private final List<?> items;
+        private final int from;
+        private final int to;
+
+        private RangeTask(String section, List<?> items, int from, int to) {
+            this.section = section;
+            this.items = items;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<ValidationReport.ItemError> compute() {
+            if (to - from <= threshold) {
+                List<ValidationReport.ItemError> errors = null;
+                for (int i = from; i < to; i++) {
+                    errors = validateItem(section, i, items.get(i), errors);
+                }
+                return errors;
+            }
+
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(section, items, from, middle);
+            left.fork();
+            List<ValidationReport.ItemError> right = new RangeTask(section, items, middle, to).compute();
+            List<ValidationReport.ItemError> errors = left.join();
+            if (errors == null) {
+                return right;
+            }
+            addAll(errors, right);
+            return errors;
+        }
+    }
+
+    /**
+     * Runs the section tasks concurrently
+     */
+    private static final class SectionsTask extends RecursiveTask<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<RangeTask> tasks;
+
+        private SectionsTask(List<RangeTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            ForkJoinTask.invokeAll(tasks);
+            return null;
+        }
+    }
+}
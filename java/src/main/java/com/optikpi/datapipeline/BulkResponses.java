@@ -0,0 +1,50 @@
+package com.optikpi.datapipeline;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Maps the response to an array request back to the items it carried
+ *
+ * The API documents one record id per item in the {@code recordIds} array of a successful
+ * response, in request order, and a single {@code message} for a failed request. Each item
+ * therefore takes the outcome of its request, along with its entry of {@code recordIds}
+ * when the array has one entry per item.
+ */
+final class BulkResponses {
+    private BulkResponses() {}
+
+    /**
+     * Stores the outcome of each sent item at its index in the submitted list
+     * @param items The submitted list
+     * @param indices Index in the submitted list of each item of the request array
+     * @param body JSON response body, null if absent or not JSON
+     */
+    static void apply(BulkResult.ItemResult[] results, List<?> items, int[] indices,
+                      ApiResponse<Object> response, JsonNode body) {
+        boolean success = response.isSuccess();
+        int status = response.getStatus();
+        String error = success ? null : requestError(response, body);
+        JsonNode recordIds = success && body != null ? body.get("recordIds") : null;
+        boolean positional = recordIds != null && recordIds.isArray() && recordIds.size() == indices.length;
+
+        for (int k = 0; k < indices.length; k++) {
+            String recordId = positional ? text(recordIds.get(k)) : null;
+            results[indices[k]] = new BulkResult.ItemResult(indices[k], EventDeduplicator.eventIdOf(items.get(indices[k])),
+                    success, status, recordId, error);
+        }
+    }
+
+    private static String requestError(ApiResponse<Object> response, JsonNode body) {
+        String message = body != null && body.isObject() ? text(body.get("message")) : null;
+        return message != null ? message : response.getError();
+    }
+
+    private static String text(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+}
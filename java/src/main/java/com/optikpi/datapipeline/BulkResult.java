@@ -0,0 +1,223 @@
+package com.optikpi.datapipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Per-item outcome of an array sent with {@link DataPipelineClient#sendBulk(String, List)}
+ *
+ * Holds one {@link ItemResult} per item of the submitted list, at the item's index.
+ * Each item shares the outcome of its request and takes its entry of the response's
+ * {@code recordIds}, which lists one record id per item in request order. Pass the result to
+ * {@link DataPipelineClient#resubmitFailed(BulkResult)} to resend only the failed items.
+ * With a spool configured, items whose request was kept in it for replay are failed and
+ * {@link ItemResult#isSpooled() spooled}; the spool drainer delivers them, so they are
+ * not resubmitted.
+ */
+public final class BulkResult {
+    @JsonProperty("endpoint")
+    private final String endpoint;
+
+    @JsonProperty("results")
+    private final List<ItemResult> results;
+
+    @JsonProperty("responses")
+    private final List<ApiResponse<Object>> responses;
+
+    // The submitted list, kept so failed items can be resubmitted
+    private final List<?> items;
+
+    BulkResult(String endpoint, List<?> items, ItemResult[] results, List<ApiResponse<Object>> responses) {
+        this.endpoint = endpoint;
+        this.items = items;
+        this.results = Collections.unmodifiableList(Arrays.asList(results));
+        this.responses = Collections.unmodifiableList(responses);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @JsonProperty("success")
+    public boolean isSuccess() {
+        return getFailedCount() == 0;
+    }
+
+    public int getItemCount() {
+        return results.size();
+    }
+
+    @JsonProperty("failedCount")
+    public int getFailedCount() {
+        int count = 0;
+        for (ItemResult result : results) {
+            if (!result.success) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return Outcome of each submitted item, ordered by index
+     */
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return Outcomes of the failed items, ordered by index
+     */
+    @JsonIgnore
+    public List<ItemResult> getFailures() {
+        List<ItemResult> failures = new ArrayList<>();
+        for (ItemResult result : results) {
+            if (!result.success) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @return The failed items of the submitted list that are not spooled for replay, in
+     *         their original order
+     */
+    @JsonIgnore
+    public List<Object> getFailedItems() {
+        List<Object> failed = new ArrayList<>();
+        for (ItemResult result : results) {
+            if (!result.success && !result.spooled) {
+                failed.add(items.get(result.index));
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return Responses of every request made for the list, including resubmissions, in order
+     */
+    public List<ApiResponse<Object>> getResponses() {
+        return responses;
+    }
+
+    List<?> getItems() {
+        return items;
+    }
+
+    ItemResult[] copyResults() {
+        return results.toArray(new ItemResult[0]);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{endpoint=" + endpoint + ", itemCount=" + getItemCount() + ", failedCount=" + getFailedCount() + "}";
+    }
+
+    /**
+     * Outcome of one submitted item
+     */
+    public static final class ItemResult {
+        @JsonProperty("index")
+        private final int index;
+
+        @JsonProperty("eventId")
+        private final String eventId;
+
+        @JsonProperty("success")
+        private final boolean success;
+
+        @JsonProperty("status")
+        private final int status;
+
+        @JsonProperty("recordId")
+        private final String recordId;
+
+        @JsonProperty("error")
+        private final String error;
+
+        @JsonProperty("spooled")
+        private final boolean spooled;
+
+        ItemResult(int index, String eventId, boolean success, int status, String recordId, String error) {
+            this(index, eventId, success, status, recordId, error, false);
+        }
+
+        private ItemResult(int index, String eventId, boolean success, int status, String recordId, String error,
+                           boolean spooled) {
+            this.index = index;
+            this.eventId = eventId;
+            this.success = success;
+            this.status = status;
+            this.recordId = recordId;
+            this.error = error;
+            this.spooled = spooled;
+        }
+
+        /**
+         * @return Failed copy of this result for an item whose request was kept in the spool
+         */
+        ItemResult spooled() {
+            return new ItemResult(index, eventId, false, status, null,
+                    error != null ? error : "Not delivered, kept in spool for replay", true);
+        }
+
+        /**
+         * @return Index of the item in the submitted list
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return event_id of the item, null if it has none
+         */
+        public String getEventId() {
+            return eventId;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return HTTP status of the request that carried the item, 208 if it was dropped as
+         *         a duplicate, 0 if it was not delivered
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * @return Record id the gateway assigned to the item, if it reported one
+         */
+        public String getRecordId() {
+            return recordId;
+        }
+
+        /**
+         * @return Error reported for the item or its request, null on success
+         */
+        public String getError() {
+            return error;
+        }
+
+        /**
+         * @return true if the item was not delivered yet but its request is kept in the spool,
+         *         which replays it; such items are not resubmitted
+         */
+        public boolean isSpooled() {
+            return spooled;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + index + "]" + (eventId != null ? " " + eventId : "") + " " + (success ? "ok" : (spooled ? "spooled: " : "failed: ") + error);
+        }
+    }
+}
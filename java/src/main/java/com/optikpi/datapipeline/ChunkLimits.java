@@ -0,0 +1,32 @@
+package com.optikpi.datapipeline;
+
+/**
+ * Upper bounds for a single request when sendBatch splits a list into chunks
+ */
+public class ChunkLimits {
+    private final int maxItems;
+    private final long maxBytes;
+    
+    /**
+     * @param maxItems Maximum number of items per request
+     * @param maxBytes Maximum serialized JSON size per request; a single larger item is sent on its own
+     */
+    public ChunkLimits(int maxItems, long maxBytes) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("maxItems must be at least 1");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be at least 1");
+        }
+        this.maxItems = maxItems;
+        this.maxBytes = maxBytes;
+    }
+    
+    public int getMaxItems() {
+        return maxItems;
+    }
+    
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+}
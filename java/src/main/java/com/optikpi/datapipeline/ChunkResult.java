@@ -0,0 +1,62 @@
+package com.optikpi.datapipeline;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Outcome of one chunk of a batch section
+ */
+public class ChunkResult {
+    @JsonProperty("startIndex")
+    private int startIndex;
+    
+    @JsonProperty("endIndex")
+    private int endIndex;
+    
+    @JsonProperty("bytes")
+    private long bytes;
+    
+    @JsonProperty("response")
+    private ApiResponse<Object> response;
+    
+    public ChunkResult() {}
+    
+    public ChunkResult(int startIndex, int endIndex, long bytes, ApiResponse<Object> response) {
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.bytes = bytes;
+        this.response = response;
+    }
+    
+    /**
+     * @return Index of the first item of the chunk in the section list
+     */
+    public int getStartIndex() {
+        return startIndex;
+    }
+    
+    /**
+     * @return Index after the last item of the chunk in the section list (exclusive)
+     */
+    public int getEndIndex() {
+        return endIndex;
+    }
+    
+    public int getItemCount() {
+        return endIndex - startIndex;
+    }
+    
+    /**
+     * @return Serialized size of the chunk request body
+     */
+    public long getBytes() {
+        return bytes;
+    }
+    
+    public ApiResponse<Object> getResponse() {
+        return response;
+    }
+    
+    public boolean isSuccess() {
+        return response != null && response.isSuccess();
+    }
+}
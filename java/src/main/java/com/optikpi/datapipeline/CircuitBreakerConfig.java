@@ -0,0 +1,123 @@
+package com.optikpi.datapipeline;
+
+import com.optikpi.datapipeline.resilience.CircuitBreaker;
+
+/**
+ * Configuration of the per-endpoint circuit breaker, see {@link CircuitBreaker}
+ */
+public class CircuitBreakerConfig {
+    private int slidingWindowSize = 100;
+    private int minimumCalls = 20;
+    private double failureRateThreshold = 0.5;
+    private double slowCallRateThreshold = 1.0;
+    private long slowCallDuration = 10000;
+    private long openDuration = 30000;
+    private int halfOpenCalls = 5;
+    private CircuitBreaker.StateListener stateListener;
+    private OpenCircuitFallback fallback;
+
+    public CircuitBreakerConfig() {}
+
+    // Getters and Setters
+
+    /**
+     * Number of most recent attempts the failure and slow-call rates are computed over
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    /**
+     * Attempts recorded before the rates are evaluated
+     */
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    /**
+     * Share of failed attempts, in (0, 1], that opens the circuit. Network errors and
+     * 5xx responses count as failures; 429 responses do not.
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    /**
+     * Share of slow attempts, in (0, 1], that opens the circuit
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    /**
+     * Duration in milliseconds from which an attempt counts as slow
+     */
+    public long getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(long slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    /**
+     * Time in milliseconds an open circuit rejects requests before letting trial requests through
+     */
+    public long getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(long openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * Trial requests let through while half-open; their outcome closes or reopens the circuit
+     */
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * Receives state transitions with the endpoint as name, may be null
+     */
+    public CircuitBreaker.StateListener getStateListener() {
+        return stateListener;
+    }
+
+    public void setStateListener(CircuitBreaker.StateListener stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    /**
+     * Receives payloads rejected while the circuit is open, may be null. Not called when
+     * a spool is configured, since rejected payloads stay in the spool for replay.
+     */
+    public OpenCircuitFallback getFallback() {
+        return fallback;
+    }
+
+    public void setFallback(OpenCircuitFallback fallback) {
+        this.fallback = fallback;
+    }
+}
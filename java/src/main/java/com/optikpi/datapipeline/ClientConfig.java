@@ -1,5 +1,15 @@
 package com.optikpi.datapipeline;
 
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.optikpi.datapipeline.compression.CompressionCodec;
+import com.optikpi.datapipeline.metrics.DefaultMetricsRecorder;
+import com.optikpi.datapipeline.metrics.MetricsRecorder;
+
+import okhttp3.OkHttpClient;
+
 /**
  * Configuration class for DataPipelineClient
  */
@@ -11,6 +21,41 @@ public class ClientConfig {
     private long timeout = 30000;
     private int retries = 3;
     private long retryDelay = 1000;
+    private long maxRetryDelay = 10000;
+    private long retryDeadline = 60000;
+    private int retryBudgetMaxTokens = 100;
+    private double retryBudgetTokenRatio = 0.1;
+    private int batchConcurrency = 1;
+    private ChunkLimits chunkLimits;
+    private Map<String, ChunkLimits> endpointChunkLimits = new HashMap<>();
+    private RateLimit rateLimit;
+    private int maxRequests = 64;
+    private int maxRequestsPerHost = 64;
+    private int maxIdleConnections = 5;
+    private long keepAliveDuration = 300000;
+    private HttpProtocol protocol = HttpProtocol.HTTP_2;
+    private OkHttpClient httpClient;
+    private CompressionCodec compressionCodec;
+    private int compressionThreshold = 1024;
+    private boolean streamingSerialization = false;
+    private boolean fastSerialization = false;
+    private Path spoolDirectory;
+    private long spoolSegmentBytes = 64L * 1024 * 1024;
+    private boolean spoolFsync = false;
+    private long spoolReplayInterval = 30000;
+    private MetricsRecorder metricsRecorder;
+    private boolean idempotencyKeys = false;
+    private long dedupWindow = 0;
+    private int dedupMaxEntries = 100000;
+    private boolean stripInvalidBatchItems = false;
+    private boolean virtualThreads = false;
+    private ResponseMode responseMode = ResponseMode.PARSED;
+    private Map<String, Class<?>> responseTypes = new HashMap<>();
+    private Map<String, RateLimit> endpointRateLimits = new HashMap<>();
+    private ConcurrencyLimit concurrencyLimit;
+    private Map<String, ConcurrencyLimit> endpointConcurrencyLimits = new HashMap<>();
+    private CircuitBreakerConfig circuitBreaker;
+    private Map<String, CircuitBreakerConfig> endpointCircuitBreakers = new HashMap<>();
     
     public ClientConfig() {}
     
@@ -77,6 +122,448 @@ public class ClientConfig {
         this.retryDelay = retryDelay;
     }
     
+    /**
+     * Upper bound of the exponential backoff between retries
+     */
+    public long getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+    
+    public void setMaxRetryDelay(long maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+    }
+    
+    /**
+     * Time after the first attempt past which a request is no longer retried; 0 disables the deadline
+     */
+    public long getRetryDeadline() {
+        return retryDeadline;
+    }
+    
+    public void setRetryDeadline(long retryDeadline) {
+        this.retryDeadline = retryDeadline;
+    }
+    
+    /**
+     * Size of the client-wide retry budget; retries stop while fewer than half of the tokens remain
+     */
+    public int getRetryBudgetMaxTokens() {
+        return retryBudgetMaxTokens;
+    }
+    
+    public void setRetryBudgetMaxTokens(int retryBudgetMaxTokens) {
+        this.retryBudgetMaxTokens = retryBudgetMaxTokens;
+    }
+    
+    /**
+     * Tokens returned to the retry budget by each successful request; each failed attempt costs one token
+     */
+    public double getRetryBudgetTokenRatio() {
+        return retryBudgetTokenRatio;
+    }
+    
+    public void setRetryBudgetTokenRatio(double retryBudgetTokenRatio) {
+        this.retryBudgetTokenRatio = retryBudgetTokenRatio;
+    }
+    
+    /**
+     * Maximum number of sendBatch requests in flight at once; 1 sends sections and chunks one after another
+     */
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+    
+    public void setBatchConcurrency(int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+    
+    /**
+     * Default limits used by sendBatch to split large lists into several requests; null, the
+     * default, sends each list as one request
+     */
+    public ChunkLimits getChunkLimits() {
+        return chunkLimits;
+    }
+    
+    public void setChunkLimits(ChunkLimits chunkLimits) {
+        this.chunkLimits = chunkLimits;
+    }
+    
+    /**
+     * Chunk limits for a single endpoint, falling back to the default limits
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     */
+    public ChunkLimits getChunkLimits(String endpoint) {
+        return endpointChunkLimits.getOrDefault(endpoint, chunkLimits);
+    }
+    
+    /**
+     * Overrides the chunk limits for a single endpoint
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param limits Limits for that endpoint
+     */
+    public void setChunkLimits(String endpoint, ChunkLimits limits) {
+        this.endpointChunkLimits.put(endpoint, limits);
+    }
+    
+    /**
+     * Default client-side rate limit per endpoint; null leaves requests unpaced
+     */
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+    
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+    
+    /**
+     * Rate limit for a single endpoint, falling back to the default rate limit
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     */
+    public RateLimit getRateLimit(String endpoint) {
+        return endpointRateLimits.getOrDefault(endpoint, rateLimit);
+    }
+    
+    /**
+     * Overrides the rate limit for a single endpoint
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param rateLimit Rate limit for that endpoint
+     */
+    public void setRateLimit(String endpoint, RateLimit rateLimit) {
+        this.endpointRateLimits.put(endpoint, rateLimit);
+    }
+    
+    /**
+     * Default adaptive in-flight limit per endpoint; null leaves concurrency to the
+     * dispatcher limits
+     */
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+    
+    public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+        this.concurrencyLimit = concurrencyLimit;
+    }
+    
+    /**
+     * In-flight limit for a single endpoint, falling back to the default limit
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     */
+    public ConcurrencyLimit getConcurrencyLimit(String endpoint) {
+        return endpointConcurrencyLimits.getOrDefault(endpoint, concurrencyLimit);
+    }
+    
+    /**
+     * Overrides the in-flight limit for a single endpoint
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param concurrencyLimit Limit for that endpoint
+     */
+    public void setConcurrencyLimit(String endpoint, ConcurrencyLimit concurrencyLimit) {
+        this.endpointConcurrencyLimits.put(endpoint, concurrencyLimit);
+    }
+    
+    /**
+     * Default circuit breaker settings, applied to each endpoint separately; null disables
+     * circuit breaking
+     */
+    public CircuitBreakerConfig getCircuitBreaker() {
+        return circuitBreaker;
+    }
+    
+    public void setCircuitBreaker(CircuitBreakerConfig circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+    
+    /**
+     * Circuit breaker settings for a single endpoint, falling back to the default settings
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     */
+    public CircuitBreakerConfig getCircuitBreaker(String endpoint) {
+        return endpointCircuitBreakers.getOrDefault(endpoint, circuitBreaker);
+    }
+    
+    /**
+     * Overrides the circuit breaker settings for a single endpoint
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param circuitBreaker Settings for that endpoint, null to disable circuit breaking for it
+     */
+    public void setCircuitBreaker(String endpoint, CircuitBreakerConfig circuitBreaker) {
+        this.endpointCircuitBreakers.put(endpoint, circuitBreaker);
+    }
+    
+    Map<String, CircuitBreakerConfig> getEndpointCircuitBreakers() {
+        return endpointCircuitBreakers;
+    }
+    
+    /**
+     * Maximum number of concurrent requests across all hosts
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+    
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+    
+    /**
+     * Maximum number of concurrent requests to the gateway host
+     */
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+    
+    public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+    
+    /**
+     * Maximum number of idle connections kept in the connection pool
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+    
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+    
+    /**
+     * Time in milliseconds an idle pooled connection is kept alive
+     */
+    public long getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+    
+    public void setKeepAliveDuration(long keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+    
+    public HttpProtocol getProtocol() {
+        return protocol;
+    }
+    
+    public void setProtocol(HttpProtocol protocol) {
+        this.protocol = protocol;
+    }
+    
+    /**
+     * Shared OkHttpClient to build on. Its dispatcher and connection pool are reused, so
+     * several SDK instances can share them; the pool, dispatcher and protocol settings of
+     * this config are then ignored.
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+    
+    public void setHttpClient(OkHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+    
+    /**
+     * Codec used to compress request bodies, or null to send them uncompressed.
+     * The HMAC signature is computed over the uncompressed payload.
+     */
+    public CompressionCodec getCompressionCodec() {
+        return compressionCodec;
+    }
+    
+    public void setCompressionCodec(CompressionCodec compressionCodec) {
+        this.compressionCodec = compressionCodec;
+    }
+    
+    /**
+     * Minimum payload size in bytes before compression is applied
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+    
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+    
+    /**
+     * Whether model payloads are serialized straight onto the connection instead of into
+     * an in-memory copy. The payload is serialized once to compute the signature and again
+     * for every attempt, so it must not be modified until the send completes. Pre-serialized
+     * strings and sends through a spool always use an in-memory copy.
+     */
+    public boolean isStreamingSerialization() {
+        return streamingSerialization;
+    }
+    
+    public void setStreamingSerialization(boolean streamingSerialization) {
+        this.streamingSerialization = streamingSerialization;
+    }
+    
+    /**
+     * Whether the Jackson Blackbird module is registered, replacing reflective getter calls
+     * with generated accessors. Requires com.fasterxml.jackson.module:jackson-module-blackbird
+     * on the classpath. Only read when the client is created.
+     */
+    public boolean isFastSerialization() {
+        return fastSerialization;
+    }
+    
+    public void setFastSerialization(boolean fastSerialization) {
+        this.fastSerialization = fastSerialization;
+    }
+    
+    /**
+     * Directory of the durable spool; when set, payloads are written there before they are
+     * sent and replayed until the gateway accepts them. Only read when the client is created.
+     */
+    public Path getSpoolDirectory() {
+        return spoolDirectory;
+    }
+    
+    public void setSpoolDirectory(Path spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+    
+    /**
+     * Size in bytes after which the spool starts a new segment file
+     */
+    public long getSpoolSegmentBytes() {
+        return spoolSegmentBytes;
+    }
+    
+    public void setSpoolSegmentBytes(long spoolSegmentBytes) {
+        this.spoolSegmentBytes = spoolSegmentBytes;
+    }
+    
+    /**
+     * Whether every spool append is forced to the storage device before sending
+     */
+    public boolean isSpoolFsync() {
+        return spoolFsync;
+    }
+    
+    public void setSpoolFsync(boolean spoolFsync) {
+        this.spoolFsync = spoolFsync;
+    }
+    
+    /**
+     * Interval in milliseconds at which unacknowledged spool records are replayed
+     */
+    public long getSpoolReplayInterval() {
+        return spoolReplayInterval;
+    }
+    
+    public void setSpoolReplayInterval(long spoolReplayInterval) {
+        this.spoolReplayInterval = spoolReplayInterval;
+    }
+    
+    /**
+     * Receives per-endpoint send metrics. Defaults to a {@link DefaultMetricsRecorder},
+     * exposed through DataPipelineClient#getMetrics(); use {@link MetricsRecorder#NOOP} to
+     * disable recording. Only read when the client is created.
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+    
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+    
+    /**
+     * Whether requests carry an Idempotency-Key header derived from the payload, so the
+     * gateway can discard a retry or replay of a request it already committed
+     */
+    public boolean isIdempotencyKeys() {
+        return idempotencyKeys;
+    }
+    
+    public void setIdempotencyKeys(boolean idempotencyKeys) {
+        this.idempotencyKeys = idempotencyKeys;
+    }
+    
+    /**
+     * Time in milliseconds during which an event_id sent to an endpoint is remembered;
+     * events carrying it again are dropped before serialization. A send whose events are
+     * all dropped completes successfully with status 208 without a request. Events of a
+     * request that fails are forgotten so a resend goes through. 0 disables dedup.
+     * Only read when the client is created.
+     */
+    public long getDedupWindow() {
+        return dedupWindow;
+    }
+    
+    public void setDedupWindow(long dedupWindow) {
+        this.dedupWindow = dedupWindow;
+    }
+    
+    /**
+     * Maximum number of event_ids remembered per endpoint; the oldest is forgotten first
+     */
+    public int getDedupMaxEntries() {
+        return dedupMaxEntries;
+    }
+    
+    public void setDedupMaxEntries(int dedupMaxEntries) {
+        this.dedupMaxEntries = dedupMaxEntries;
+    }
+    
+    /**
+     * Whether sendBatch validates the batch with a {@link BatchValidator} and sends only
+     * the valid items; the report is returned in {@link BatchResponse#getValidationReport()}
+     */
+    public boolean isStripInvalidBatchItems() {
+        return stripInvalidBatchItems;
+    }
+    
+    public void setStripInvalidBatchItems(boolean stripInvalidBatchItems) {
+        this.stripInvalidBatchItems = stripInvalidBatchItems;
+    }
+    
+    /**
+     * Whether the client runs on virtual threads: each HTTP call of its own dispatcher gets
+     * a new virtual thread, and sendBatch fans its lanes out to virtual threads. The
+     * dispatcher of an injected httpClient is left as is. Needs Java 21; ignored with a
+     * warning on older runtimes. Only read when the client is created.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+    
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+    
+    /**
+     * How successful response bodies are decoded. PARSED decodes them on arrival, LAZY on
+     * the first getData() call, and STATUS_ONLY never reads them, which suits
+     * fire-and-forget sends. Error bodies are always kept as text.
+     */
+    public ResponseMode getResponseMode() {
+        return responseMode;
+    }
+    
+    public void setResponseMode(ResponseMode responseMode) {
+        this.responseMode = responseMode;
+    }
+    
+    /**
+     * Type successful response bodies of an endpoint are decoded into; Object by default,
+     * which yields maps and lists
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     */
+    public Class<?> getResponseType(String endpoint) {
+        return responseTypes.getOrDefault(endpoint, Object.class);
+    }
+    
+    /**
+     * Declares the type successful response bodies of an endpoint are decoded into
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param type Jackson-deserializable class
+     */
+    public void setResponseType(String endpoint, Class<?> type) {
+        this.responseTypes.put(endpoint, type);
+    }
+    
     /**
      * Updates this config with values from another config
      * @param other Other config to merge from
@@ -89,6 +576,41 @@ public class ClientConfig {
         this.timeout = other.timeout;
         this.retries = other.retries;
         this.retryDelay = other.retryDelay;
+        this.maxRetryDelay = other.maxRetryDelay;
+        this.retryDeadline = other.retryDeadline;
+        this.retryBudgetMaxTokens = other.retryBudgetMaxTokens;
+        this.retryBudgetTokenRatio = other.retryBudgetTokenRatio;
+        this.batchConcurrency = other.batchConcurrency;
+        if (other.chunkLimits != null) this.chunkLimits = other.chunkLimits;
+        this.endpointChunkLimits = new HashMap<>(other.endpointChunkLimits);
+        this.rateLimit = other.rateLimit;
+        this.endpointRateLimits = new HashMap<>(other.endpointRateLimits);
+        this.concurrencyLimit = other.concurrencyLimit;
+        this.endpointConcurrencyLimits = new HashMap<>(other.endpointConcurrencyLimits);
+        this.circuitBreaker = other.circuitBreaker;
+        this.endpointCircuitBreakers = new HashMap<>(other.endpointCircuitBreakers);
+        this.maxRequests = other.maxRequests;
+        this.maxRequestsPerHost = other.maxRequestsPerHost;
+        this.maxIdleConnections = other.maxIdleConnections;
+        this.keepAliveDuration = other.keepAliveDuration;
+        if (other.protocol != null) this.protocol = other.protocol;
+        if (other.httpClient != null) this.httpClient = other.httpClient;
+        if (other.compressionCodec != null) this.compressionCodec = other.compressionCodec;
+        this.compressionThreshold = other.compressionThreshold;
+        this.streamingSerialization = other.streamingSerialization;
+        this.fastSerialization = other.fastSerialization;
+        if (other.spoolDirectory != null) this.spoolDirectory = other.spoolDirectory;
+        this.spoolSegmentBytes = other.spoolSegmentBytes;
+        this.spoolFsync = other.spoolFsync;
+        this.spoolReplayInterval = other.spoolReplayInterval;
+        if (other.metricsRecorder != null) this.metricsRecorder = other.metricsRecorder;
+        this.idempotencyKeys = other.idempotencyKeys;
+        this.dedupWindow = other.dedupWindow;
+        this.dedupMaxEntries = other.dedupMaxEntries;
+        this.stripInvalidBatchItems = other.stripInvalidBatchItems;
+        this.virtualThreads = other.virtualThreads;
+        if (other.responseMode != null) this.responseMode = other.responseMode;
+        this.responseTypes = new HashMap<>(other.responseTypes);
     }
     
     /**
@@ -104,6 +626,41 @@ public class ClientConfig {
         copy.timeout = this.timeout;
         copy.retries = this.retries;
         copy.retryDelay = this.retryDelay;
+        copy.maxRetryDelay = this.maxRetryDelay;
+        copy.retryDeadline = this.retryDeadline;
+        copy.retryBudgetMaxTokens = this.retryBudgetMaxTokens;
+        copy.retryBudgetTokenRatio = this.retryBudgetTokenRatio;
+        copy.batchConcurrency = this.batchConcurrency;
+        copy.chunkLimits = this.chunkLimits;
+        copy.endpointChunkLimits = new HashMap<>(this.endpointChunkLimits);
+        copy.rateLimit = this.rateLimit;
+        copy.endpointRateLimits = new HashMap<>(this.endpointRateLimits);
+        copy.concurrencyLimit = this.concurrencyLimit;
+        copy.endpointConcurrencyLimits = new HashMap<>(this.endpointConcurrencyLimits);
+        copy.circuitBreaker = this.circuitBreaker;
+        copy.endpointCircuitBreakers = new HashMap<>(this.endpointCircuitBreakers);
+        copy.maxRequests = this.maxRequests;
+        copy.maxRequestsPerHost = this.maxRequestsPerHost;
+        copy.maxIdleConnections = this.maxIdleConnections;
+        copy.keepAliveDuration = this.keepAliveDuration;
+        copy.protocol = this.protocol;
+        copy.httpClient = this.httpClient;
+        copy.compressionCodec = this.compressionCodec;
+        copy.compressionThreshold = this.compressionThreshold;
+        copy.streamingSerialization = this.streamingSerialization;
+        copy.fastSerialization = this.fastSerialization;
+        copy.spoolDirectory = this.spoolDirectory;
+        copy.spoolSegmentBytes = this.spoolSegmentBytes;
+        copy.spoolFsync = this.spoolFsync;
+        copy.spoolReplayInterval = this.spoolReplayInterval;
+        copy.metricsRecorder = this.metricsRecorder;
+        copy.idempotencyKeys = this.idempotencyKeys;
+        copy.dedupWindow = this.dedupWindow;
+        copy.dedupMaxEntries = this.dedupMaxEntries;
+        copy.stripInvalidBatchItems = this.stripInvalidBatchItems;
+        copy.virtualThreads = this.virtualThreads;
+        copy.responseMode = this.responseMode;
+        copy.responseTypes = new HashMap<>(this.responseTypes);
         return copy;
     }
     
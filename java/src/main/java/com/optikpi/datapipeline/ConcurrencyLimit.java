@@ -0,0 +1,52 @@
+package com.optikpi.datapipeline;
+
+/**
+ * Bounds of the adaptive in-flight request limit of an endpoint
+ */
+public class ConcurrencyLimit {
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    
+    /**
+     * @param initialLimit Requests allowed in flight before any round trip was measured
+     * @param minLimit Lowest limit the endpoint is throttled down to
+     * @param maxLimit Highest limit the endpoint may grow to
+     * @param maxQueued Requests waiting for a free slot before further requests are rejected
+     */
+    public ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int maxQueued) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be at least 1");
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit cannot be less than minLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued cannot be negative");
+        }
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+    }
+    
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+    
+    public int getMinLimit() {
+        return minLimit;
+    }
+    
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+    
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+}
@@ -1,37 +1,115 @@
 package com.optikpi.datapipeline;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.optikpi.datapipeline.crypto.CryptoUtils;
+import com.optikpi.datapipeline.compression.CompressionCodec;
+import com.optikpi.datapipeline.crypto.HmacSigner;
+import com.optikpi.datapipeline.crypto.SigningOutputStream;
+import com.optikpi.datapipeline.metrics.DefaultMetricsRecorder;
+import com.optikpi.datapipeline.metrics.MetricsRecorder;
+import com.optikpi.datapipeline.metrics.MetricsSnapshot;
+import com.optikpi.datapipeline.resilience.CircuitBreaker;
+import com.optikpi.datapipeline.resilience.ConcurrencyLimiter;
+import com.optikpi.datapipeline.resilience.RateLimiter;
+import com.optikpi.datapipeline.resilience.RetryBudget;
+import com.optikpi.datapipeline.resilience.RetryPolicy;
+import com.optikpi.datapipeline.spool.EventSpool;
+import com.optikpi.datapipeline.spool.SpoolDrainer;
 
-import okhttp3.FormBody;
-import okhttp3.Interceptor;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 
-public class DataPipelineClient {
+public class DataPipelineClient implements AutoCloseable {
     private static final Logger logger = LoggerFactory.getLogger(DataPipelineClient.class);
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    
+    // 128 bits of the hex encoded HMAC
+    private static final int IDEMPOTENCY_KEY_LENGTH = 32;
+    
+    // Only used to enqueue calls after a pacing, backoff or concurrency delay, never to run blocking work
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "optikpi-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
     
     private final ClientConfig config;
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
+    private final ModelWriters writers;
+    private final Map<Class<?>, ObjectReader> responseReaders = new ConcurrentHashMap<>();
+    private volatile HmacSigner signer;
+    private volatile RetryPolicy retryPolicy;
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final EventSpool spool;
+    private final SpoolDrainer spoolDrainer;
+    private final MetricsRecorder metrics;
+    private final EventDeduplicator dedup;
+    private final BatchValidator batchValidator = new BatchValidator();
+    private final boolean virtualThreads;
+    private volatile ExecutorService batchExecutor;
     
     public DataPipelineClient(ClientConfig config) {
         this.config = validateConfig(config);
+        this.metrics = config.getMetricsRecorder() != null ? config.getMetricsRecorder() : new DefaultMetricsRecorder();
+        this.signer = createSigner(config);
+        this.retryPolicy = createRetryPolicy(config);
         this.objectMapper = createObjectMapper();
+        this.writers = new ModelWriters(objectMapper);
+        this.virtualThreads = config.isVirtualThreads() && VirtualThreads.isSupported();
+        if (config.isVirtualThreads() && !virtualThreads) {
+            logger.warn("virtualThreads requires Java 21, using platform threads");
+        }
         this.httpClient = createHttpClient();
+        this.spool = openSpool(config);
+        this.spoolDrainer = spool != null ? startSpoolDrainer(config) : null;
+        this.dedup = config.getDedupWindow() > 0
+                ? new EventDeduplicator(config.getDedupWindow(), config.getDedupMaxEntries())
+                : null;
     }
     
     private ClientConfig validateConfig(ClientConfig config) {
@@ -47,244 +125,1101 @@ public class DataPipelineClient {
         if (config.getWorkspaceId() == null || config.getWorkspaceId().trim().isEmpty()) {
             throw new IllegalArgumentException("workspaceId is required");
         }
+        if (config.getDedupWindow() > 0 && config.getDedupMaxEntries() < 1) {
+            throw new IllegalArgumentException("dedupMaxEntries must be at least 1");
+        }
+        validateCircuitBreaker(config.getCircuitBreaker());
+        config.getEndpointCircuitBreakers().values().forEach(this::validateCircuitBreaker);
         return config;
     }
     
+    private void validateCircuitBreaker(CircuitBreakerConfig breakerConfig) {
+        // The breaker constructor checks the settings
+        if (breakerConfig != null) {
+            createCircuitBreaker("", breakerConfig);
+        }
+    }
+    
+    private HmacSigner createSigner(ClientConfig config) {
+        return new HmacSigner(config.getAuthToken(), config.getAccountId(), config.getWorkspaceId());
+    }
+    
+    private EventSpool openSpool(ClientConfig config) {
+        if (config.getSpoolDirectory() == null) {
+            return null;
+        }
+        try {
+            return new EventSpool(config.getSpoolDirectory(), config.getSpoolSegmentBytes(), config.isSpoolFsync());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open spool at " + config.getSpoolDirectory(), e);
+        }
+    }
+    
+    private SpoolDrainer startSpoolDrainer(ClientConfig config) {
+        SpoolDrainer drainer = new SpoolDrainer(
+            spool,
+            (endpoint, payload) -> dispatchPayload(endpoint, payload, 0, System.nanoTime(), false).thenApply(this::isSettled),
+            config.getSpoolReplayInterval(),
+            config.getMaxRequestsPerHost()
+        );
+        drainer.start();
+        return drainer;
+    }
+    
     private ObjectMapper createObjectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
         // DO NOT SORT - preserve field declaration order
         mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, false);
+        // Streaming bodies write to the connection sink, which OkHttp closes itself
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        if (config.isFastSerialization()) {
+            registerBlackbird(mapper);
+        }
         return mapper;
     }
     
+    private void registerBlackbird(ObjectMapper mapper) {
+        try {
+            Class<?> module = Class.forName("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+            mapper.registerModule((Module) module.getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("fastSerialization requires jackson-module-blackbird on the classpath, using reflective serialization");
+        }
+    }
+    
     private OkHttpClient createHttpClient() {
-        return new OkHttpClient.Builder()
+        OkHttpClient.Builder builder;
+        if (config.getHttpClient() != null) {
+            // Derived clients share the dispatcher and connection pool of the injected client
+            builder = config.getHttpClient().newBuilder();
+        } else {
+            Dispatcher dispatcher = virtualThreads
+                    ? new Dispatcher(VirtualThreads.newThreadPerTaskExecutor("optikpi-http"))
+                    : new Dispatcher();
+            dispatcher.setMaxRequests(config.getMaxRequests());
+            dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+            
+            builder = new OkHttpClient.Builder()
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(
+                        config.getMaxIdleConnections(),
+                        config.getKeepAliveDuration(),
+                        TimeUnit.MILLISECONDS
+                    ))
+                    .protocols(protocols(config.getProtocol()));
+        }
+        
+        return builder
                 .connectTimeout(Duration.ofMillis(config.getTimeout()))
                 .readTimeout(Duration.ofMillis(config.getTimeout()))
                 .writeTimeout(Duration.ofMillis(config.getTimeout()))
-                .addInterceptor(this::addAuthHeaders)
-                .addInterceptor(this::handleRetries)
                 .build();
     }
     
-    private Response addAuthHeaders(Interceptor.Chain chain) throws IOException {
-        Request originalRequest = chain.request();
-        
-        if (originalRequest.body() != null && !"GET".equals(originalRequest.method())) {
-            try {
-                RequestBody originalBody = originalRequest.body();
-                String requestBody = getRequestBody(originalBody);
-                
-                String hmacSignature = CryptoUtils.generateHmacSignature(
-                    requestBody,
-                    config.getAuthToken(),
-                    config.getAccountId(),
-                    config.getWorkspaceId()
-                );
-                
-                RequestBody newBody = RequestBody.create(
-                    requestBody,
-                    originalBody.contentType()
-                );
-                
-                Request newRequest = originalRequest.newBuilder()
-                    .method(originalRequest.method(), newBody)
-                    .addHeader("x-optikpi-token", config.getAuthToken())
-                    .addHeader("x-optikpi-account-id", config.getAccountId())
-                    .addHeader("x-optikpi-workspace-id", config.getWorkspaceId())
-                    .addHeader("x-hmac-signature", hmacSignature)
-                    .addHeader("x-hmac-algorithm", "sha256")
-                    .build();
-                
-                return chain.proceed(newRequest);
-            } catch (Exception e) {
-                logger.error("Failed to add authentication headers", e);
-                throw new IOException("Failed to add authentication headers", e);
-            }
-        }
-        
-        return chain.proceed(originalRequest);
-    }
-    
-    private Response handleRetries(Interceptor.Chain chain) throws IOException {
-        Request request = chain.request();
-        Response response = null;
-        IOException lastException = null;
-        
-        for (int attempt = 0; attempt <= config.getRetries(); attempt++) {
-            try {
-                if (response != null) {
-                    response.close();
-                }
-                
-                if (attempt > 0) {
-                    try {
-                        Thread.sleep(config.getRetryDelay() * attempt);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new IOException("Retry interrupted", e);
-                    }
-                }
-                
-                response = chain.proceed(request);
-                
-                if (response.isSuccessful() || response.code() < 500) {
-                    return response;
-                }
-                
-                if (attempt == config.getRetries()) {
-                    return response;
-                }
-                
-            } catch (IOException e) {
-                lastException = e;
-                if (attempt == config.getRetries()) {
-                    throw e;
-                }
-            }
+    private List<Protocol> protocols(HttpProtocol protocol) {
+        if (protocol == null) {
+            protocol = HttpProtocol.HTTP_2;
         }
-        
-        if (lastException != null) {
-            throw lastException;
+        switch (protocol) {
+            case HTTP_1_1:
+                return List.of(Protocol.HTTP_1_1);
+            case H2C:
+                return List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+            case HTTP_2:
+            default:
+                return List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
         }
-        
-        return response;
     }
     
-    private String getRequestBody(RequestBody body) throws IOException {
-        if (body == null) {
-            return "";
-        }
-        
-        if (body instanceof FormBody) {
-            FormBody formBody = (FormBody) body;
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < formBody.size(); i++) {
-                if (i > 0) sb.append("&");
-                sb.append(formBody.encodedName(i)).append("=").append(formBody.encodedValue(i));
-            }
-            return sb.toString();
-        } else {
-            try (okio.Buffer buffer = new okio.Buffer()) {
-                body.writeTo(buffer);
-                return buffer.readUtf8();
-            }
-        }
+    private RetryPolicy createRetryPolicy(ClientConfig config) {
+        return new RetryPolicy(
+            config.getRetries(),
+            config.getRetryDelay(),
+            config.getMaxRetryDelay(),
+            config.getRetryDeadline(),
+            new RetryBudget(config.getRetryBudgetMaxTokens(), config.getRetryBudgetTokenRatio())
+        );
     }
     
     public ApiResponse<Object> sendCustomerProfile(Object data) {
-        return sendData("/customers", data);
+        return sendData(Endpoints.CUSTOMERS, data);
     }
 
     public ApiResponse<Object> sendExtendedAttributes(Object data) {
-        return sendData("/extattributes", data);
+        return sendData(Endpoints.EXTENDED_ATTRIBUTES, data);
     }
     
     public ApiResponse<Object> sendAccountEvent(Object data) {
-        return sendData("/events/account", data);
+        return sendData(Endpoints.ACCOUNT_EVENTS, data);
     }
     
     public ApiResponse<Object> sendDepositEvent(Object data) {
-        return sendData("/events/deposit", data);
+        return sendData(Endpoints.DEPOSIT_EVENTS, data);
     }
     
     public ApiResponse<Object> sendWithdrawEvent(Object data) {
-        return sendData("/events/withdraw", data);
+        return sendData(Endpoints.WITHDRAW_EVENTS, data);
     }
     
     public ApiResponse<Object> sendGamingActivityEvent(Object data) {
-        return sendData("/events/gaming-activity", data);
+        return sendData(Endpoints.GAMING_ACTIVITY_EVENTS, data);
     }
     
     public ApiResponse<Object> sendReferFriendEvent(Object data) {
-    return sendData("/events/refer-friend", data);
+        return sendData(Endpoints.REFER_FRIEND_EVENTS, data);
     }
 
     public ApiResponse<Object> sendWalletBalanceEvent(Object data) {
-        return sendData("/events/wallet-balance", data);
+        return sendData(Endpoints.WALLET_BALANCE_EVENTS, data);
     }
 
     public ApiResponse<Object> sendSystemEvent(Object data) {
-        return sendData("/events/system-events", data);
+        return sendData(Endpoints.SYSTEM_EVENTS, data);
+    }
+
+    public CompletableFuture<ApiResponse<Object>> sendCustomerProfileAsync(Object data) {
+        return sendDataAsync(Endpoints.CUSTOMERS, data, false);
     }
 
+    public CompletableFuture<ApiResponse<Object>> sendExtendedAttributesAsync(Object data) {
+        return sendDataAsync(Endpoints.EXTENDED_ATTRIBUTES, data, false);
+    }
+    
+    public CompletableFuture<ApiResponse<Object>> sendAccountEventAsync(Object data) {
+        return sendDataAsync(Endpoints.ACCOUNT_EVENTS, data, false);
+    }
+    
+    public CompletableFuture<ApiResponse<Object>> sendDepositEventAsync(Object data) {
+        return sendDataAsync(Endpoints.DEPOSIT_EVENTS, data, false);
+    }
+    
+    public CompletableFuture<ApiResponse<Object>> sendWithdrawEventAsync(Object data) {
+        return sendDataAsync(Endpoints.WITHDRAW_EVENTS, data, false);
+    }
+    
+    public CompletableFuture<ApiResponse<Object>> sendGamingActivityEventAsync(Object data) {
+        return sendDataAsync(Endpoints.GAMING_ACTIVITY_EVENTS, data, false);
+    }
+    
+    public CompletableFuture<ApiResponse<Object>> sendReferFriendEventAsync(Object data) {
+        return sendDataAsync(Endpoints.REFER_FRIEND_EVENTS, data, false);
+    }
+
+    public CompletableFuture<ApiResponse<Object>> sendWalletBalanceEventAsync(Object data) {
+        return sendDataAsync(Endpoints.WALLET_BALANCE_EVENTS, data, false);
+    }
+
+    public CompletableFuture<ApiResponse<Object>> sendSystemEventAsync(Object data) {
+        return sendDataAsync(Endpoints.SYSTEM_EVENTS, data, false);
+    }
+
+    /**
+     * Sends every section of a batch as one request, or split into chunks when
+     * {@link ClientConfig#getChunkLimits(String)} is set; the data of a chunked section is the
+     * list of its chunk responses. With {@link ClientConfig#getBatchConcurrency()}
+     * above 1 the chunks are sent by that many lanes, each blocking on its chunks on a thread of
+     * its own: a new virtual thread in virtual thread mode, otherwise a platform thread of a
+     * pool the client keeps until {@link #close()}.
+     */
     public BatchResponse sendBatch(BatchData batchData) {
+        int lanes = Math.max(1, config.getBatchConcurrency());
         BatchResponse results = new BatchResponse();
-        results.setSuccess(true);
         results.setTimestamp(Instant.now());
         
-        if (batchData.getCustomers() != null) {
-            results.setCustomers(sendCustomerProfile(batchData.getCustomers()));
+        List<SectionSend> sends = prepareBatch(batchData, results);
+        Queue<SectionSend> pending = new ConcurrentLinkedQueue<>(sends);
+        if (lanes > 1) {
+            List<Runnable> tasks = Collections.nCopies(lanes, () -> drainBatchLane(pending));
+            // Every lane has ended once runAll returns
+            if (virtualThreads) {
+                ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("optikpi-batch");
+                try {
+                    ParallelTasks.runAll(executor, tasks);
+                } finally {
+                    executor.shutdown();
+                }
+            } else {
+                ParallelTasks.runAll(batchExecutor(), tasks);
+            }
+        } else {
+            drainBatchLane(pending);
         }
-        if (batchData.getExtendedAttributes() != null) {
-            results.setExtendedAttributes(sendExtendedAttributes(batchData.getExtendedAttributes()));
+        
+        boolean success = true;
+        for (SectionSend send : sends) {
+            success &= send.applyTo(results);
         }
-        if (batchData.getAccountEvents() != null) {
-            results.setAccountEvents(sendAccountEvent(batchData.getAccountEvents()));
+        results.setSuccess(success);
+        return results;
+    }
+    
+    /**
+     * Platform threads for sendBatch lanes, created on first use. Idle threads end after a
+     * minute, so the pool only holds threads while batches are being sent.
+     */
+    private ExecutorService batchExecutor() {
+        ExecutorService executor = batchExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = batchExecutor;
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "optikpi-batch");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    batchExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+    
+    /**
+     * Blocking counterpart of {@link #sendBatchLane(Queue)}
+     */
+    private void drainBatchLane(Queue<SectionSend> pending) {
+        SectionSend send;
+        while ((send = pending.peek()) != null) {
+            PayloadChunker.Chunk chunk = nextChunk(send);
+            if (chunk == null) {
+                pending.remove(send);
+                continue;
+            }
+            ApiResponse<Object> response = chunk.response != null ? chunk.response : sendPayload(send.section.endpoint, chunk);
+            settleEvents(send.section.endpoint, chunk.sent, response);
+            send.add(chunk, response);
         }
+    }
+    
+    /**
+     * Non-blocking counterpart of {@link #sendBatch(BatchData)}. Lists are split into chunks
+     * according to {@link ClientConfig#getChunkLimits(String)} and at most
+     * {@link ClientConfig#getBatchConcurrency()} chunk requests are in flight at a time.
+     */
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchData batchData) {
+        BatchResponse results = new BatchResponse();
+        results.setTimestamp(Instant.now());
         
-        if (batchData.getDepositEvents() != null) {
-            results.setDepositEvents(sendDepositEvent(batchData.getDepositEvents()));
+        List<SectionSend> sends = prepareBatch(batchData, results);
+        Queue<SectionSend> pending = new ConcurrentLinkedQueue<>(sends);
+        int lanes = Math.max(1, config.getBatchConcurrency());
+        CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            running[i] = sendBatchLane(pending);
         }
         
-        if (batchData.getWithdrawEvents() != null) {
-            results.setWithdrawEvents(sendWithdrawEvent(batchData.getWithdrawEvents()));
+        return CompletableFuture.allOf(running).thenApply(v -> {
+            boolean success = true;
+            for (SectionSend send : sends) {
+                success &= send.applyTo(results);
+            }
+            results.setSuccess(success);
+            return results;
+        });
+    }
+    
+    /**
+     * Sets up the chunked send of each section present in the batch. With stripInvalidBatchItems the
+     * batch is validated first and invalid items are left out of the chunks.
+     */
+    private List<SectionSend> prepareBatch(BatchData batchData, BatchResponse results) {
+        ValidationReport report = null;
+        if (config.isStripInvalidBatchItems()) {
+            report = batchValidator.validate(batchData);
+            results.setValidationReport(report);
         }
         
-        if (batchData.getGamingEvents() != null) {
-            results.setGamingEvents(sendGamingActivityEvent(batchData.getGamingEvents()));
+        List<SectionSend> sends = new ArrayList<>();
+        for (BatchSection section : BatchSection.ALL) {
+            List<Object> items = section.items.apply(batchData);
+            if (items != null) {
+                BitSet invalid = report != null ? report.getInvalidIndices(section.name) : null;
+                sends.add(new SectionSend(section,
+                        new PayloadChunker(this, section.endpoint, items, invalid, config.getChunkLimits(section.endpoint))));
+            }
         }
-
-        if (batchData.getReferFriendEvents() != null) {
-        results.setReferFriendEvents(sendReferFriendEvent(batchData.getReferFriendEvents()));
+        return sends;
+    }
+    
+    /**
+     * Sends chunks from the pending sections one after another until all are exhausted
+     */
+    private CompletableFuture<Void> sendBatchLane(Queue<SectionSend> pending) {
+        SectionSend send = pending.peek();
+        if (send == null) {
+            return CompletableFuture.completedFuture(null);
         }
-
-        if (batchData.getWalletBalanceEvents() != null) {
-            results.setWalletBalanceEvents(sendWalletBalanceEvent(batchData.getWalletBalanceEvents()));
+        PayloadChunker.Chunk chunk = nextChunk(send);
+        if (chunk == null) {
+            pending.remove(send);
+            return sendBatchLane(pending);
         }
-
-        if (batchData.getSystemEvents() != null) {
-            results.setSystemEvents(sendSystemEvent(batchData.getSystemEvents()));
+        
+        CompletableFuture<ApiResponse<Object>> response = chunk.response != null
+                ? CompletableFuture.completedFuture(chunk.response)
+                : sendPayloadAsync(send.section.endpoint, chunk.payload, chunk.sent.size());
+        return response.thenCompose(result -> {
+            settleEvents(send.section.endpoint, chunk.sent, result);
+            send.add(chunk, result);
+            return sendBatchLane(pending);
+        });
+    }
+    
+    /**
+     * Serializes the next chunk of a section, recording the time spent
+     */
+    private PayloadChunker.Chunk nextChunk(SectionSend send) {
+        long start = System.nanoTime();
+        PayloadChunker.Chunk chunk = send.chunker.next();
+        if (chunk != null && chunk.payload != null) {
+            metrics.recordSerialization(send.section.endpoint, System.nanoTime() - start);
+        }
+        return chunk;
+    }
+    
+    /**
+     * Sends a list of events as one array and maps the outcome back to each item, see {@link BulkResult}
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param items Events or maps; record ids are matched by array index
+     */
+    public BulkResult sendBulk(String endpoint, List<?> items) {
+        return sendBulkAsync(endpoint, items, true).join();
+    }
+    
+    /**
+     * Non-blocking counterpart of {@link #sendBulk(String, List)}
+     */
+    public CompletableFuture<BulkResult> sendBulkAsync(String endpoint, List<?> items) {
+        return sendBulkAsync(endpoint, items, false);
+    }
+    
+    private CompletableFuture<BulkResult> sendBulkAsync(String endpoint, List<?> items, boolean blocking) {
+        if (items == null) {
+            throw new IllegalArgumentException("items cannot be null");
+        }
+        int[] indices = new int[items.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return sendItemsAsync(endpoint, items, indices, new BulkResult.ItemResult[items.size()], new ArrayList<>(), blocking);
+    }
+    
+    /**
+     * Resends the failed items of a bulk send as one array. Items kept in the spool for
+     * replay are left to the spool drainer.
+     * @return Result over the same list: items that succeeded before or are spooled keep
+     *         their outcome and resent items take their new one
+     */
+    public BulkResult resubmitFailed(BulkResult result) {
+        return resubmitFailedAsync(result, true).join();
+    }
+    
+    /**
+     * Non-blocking counterpart of {@link #resubmitFailed(BulkResult)}
+     */
+    public CompletableFuture<BulkResult> resubmitFailedAsync(BulkResult result) {
+        return resubmitFailedAsync(result, false);
+    }
+    
+    private CompletableFuture<BulkResult> resubmitFailedAsync(BulkResult result, boolean blocking) {
+        int[] indices = new int[result.getFailedCount()];
+        int count = 0;
+        for (BulkResult.ItemResult failure : result.getFailures()) {
+            if (!failure.isSpooled()) {
+                indices[count++] = failure.getIndex();
+            }
+        }
+        if (count == 0) {
+            return CompletableFuture.completedFuture(result);
+        }
+        return sendItemsAsync(result.getEndpoint(), result.getItems(), Arrays.copyOf(indices, count),
+                result.copyResults(), new ArrayList<>(result.getResponses()), blocking);
+    }
+    
+    /**
+     * Sends the items at the given indices as one array. Items dropped as duplicates succeed
+     * with status 208 without being sent; claims of items of a rejected request
+     * are released so they can be resubmitted. Items of a request left in the spool fail as
+     * spooled and keep their claims, as the drainer replays them.
+     */
+    private CompletableFuture<BulkResult> sendItemsAsync(String endpoint, List<?> items, int[] indices,
+                                                         BulkResult.ItemResult[] results,
+                                                         List<ApiResponse<Object>> responses, boolean blocking) {
+        List<Object> sent = new ArrayList<>(indices.length);
+        int[] sentIndices = new int[indices.length];
+        for (int index : indices) {
+            Object item = items.get(index);
+            if (claimEvent(endpoint, item)) {
+                sentIndices[sent.size()] = index;
+                sent.add(item);
+            } else {
+                results[index] = new BulkResult.ItemResult(index, EventDeduplicator.eventIdOf(item), true, 208, null, null);
+            }
+        }
+        if (sent.isEmpty()) {
+            return CompletableFuture.completedFuture(new BulkResult(endpoint, items, results, responses));
         }
         
-        return results;
+        int[] carried = Arrays.copyOf(sentIndices, sent.size());
+        return sendClaimedAsync(endpoint, sent, blocking).thenApply(response -> {
+            settleEvents(endpoint, sent, response);
+            BulkResponses.apply(results, items, carried, response, responseTree(response));
+            if (isSettled(response)) {
+                for (int index : carried) {
+                    if (!results[index].isSuccess()) {
+                        releaseEvent(endpoint, items.get(index));
+                    }
+                }
+            } else if (spool != null) {
+                for (int index : carried) {
+                    results[index] = results[index].spooled();
+                }
+            }
+            responses.add(response);
+            return new BulkResult(endpoint, items, results, responses);
+        });
     }
     
+    /**
+     * @return The response body as a JSON tree, null if there is none or it is not JSON
+     */
+    private JsonNode responseTree(ApiResponse<Object> response) {
+        try {
+            if (response.getRawBody() != null) {
+                return objectMapper.readTree(response.getRawBody());
+            }
+            Object data = response.getData();
+            if (data instanceof String) {
+                return ((String) data).isEmpty() ? null : objectMapper.readTree((String) data);
+            }
+            return data != null ? objectMapper.valueToTree(data) : null;
+        } catch (Exception e) {
+            // Items keep the outcome of their request
+            return null;
+        }
+    }
+    
+    /**
+     * Sends on the calling thread, see {@link #dispatch}; the returned future is already complete
+     */
     private ApiResponse<Object> sendData(String endpoint, Object data) {
+        return sendDataAsync(endpoint, data, true).join();
+    }
+    
+    private ApiResponse<Object> sendPayload(String endpoint, PayloadChunker.Chunk chunk) {
+        return sendPayloadAsync(endpoint, chunk.payload, chunk.sent.size(), System.nanoTime(), true).join();
+    }
+    
+    /**
+     * Drops events sent within the dedup window before sending the rest
+     * @param blocking Whether to send on the calling thread, see {@link #dispatch}
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<ApiResponse<Object>> sendDataAsync(String endpoint, Object data, boolean blocking) {
+        if (dedup == null || data == null || data instanceof String) {
+            return sendClaimedAsync(endpoint, data, blocking);
+        }
+        
+        List<Object> events = data instanceof List ? (List<Object>) data : List.of(data);
+        List<Object> claimed = dedup.claimAll(endpoint, events);
+        if (claimed.isEmpty() && !events.isEmpty()) {
+            return CompletableFuture.completedFuture(duplicateResponse());
+        }
+        CompletableFuture<ApiResponse<Object>> future = sendClaimedAsync(endpoint, data instanceof List ? claimed : data, blocking);
+        future.whenComplete((response, error) -> settleEvents(endpoint, claimed, response));
+        return future;
+    }
+    
+    private CompletableFuture<ApiResponse<Object>> sendClaimedAsync(String endpoint, Object data, boolean blocking) {
+        long submittedAt = System.nanoTime();
+        int events = eventCount(data);
+        if (config.isStreamingSerialization() && spool == null && !(data instanceof String)) {
+            try {
+                return dispatch(endpoint, buildStreamingRequest(endpoint, data), null, events, submittedAt, blocking);
+            } catch (Exception e) {
+                logger.error("Failed to send data to " + endpoint, e);
+                return CompletableFuture.completedFuture(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+            }
+        }
+        
+        byte[] payload;
         try {
-            String jsonData = (data instanceof String) ? (String) data : objectMapper.writeValueAsString(data);
-            
-            RequestBody body = RequestBody.create(
-                jsonData,
-                MediaType.get("application/json; charset=utf-8")
-            );
-            
-            Request request = new Request.Builder()
-                    .url(config.getBaseUrl() + endpoint)
-                    .post(body)
-                    .build();
-            
-            try (Response response = httpClient.newCall(request).execute()) {
-                String responseBody = response.body() != null ? response.body().string() : "";
-                
-                if (response.isSuccessful()) {
-                    Object responseData = objectMapper.readValue(responseBody, Object.class);
-                    return ApiResponse.success(response.code(), responseData, Instant.now());
+            payload = serialize(data);
+        } catch (Exception e) {
+            logger.error("Failed to send data to " + endpoint, e);
+            return CompletableFuture.completedFuture(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+        }
+        metrics.recordSerialization(endpoint, System.nanoTime() - submittedAt);
+        return sendPayloadAsync(endpoint, payload, events, submittedAt, blocking);
+    }
+    
+    private static int eventCount(Object data) {
+        return data instanceof Collection ? ((Collection<?>) data).size() : 1;
+    }
+    
+    /**
+     * Sends an already serialized JSON payload without blocking the calling thread.
+     * With a spool configured the payload is appended to it first and acknowledged once
+     * the gateway accepted or permanently rejected it; otherwise it stays spooled and is
+     * replayed by the drainer.
+     * @param events Number of events in the payload, for metrics
+     */
+    CompletableFuture<ApiResponse<Object>> sendPayloadAsync(String endpoint, byte[] payload, int events) {
+        return sendPayloadAsync(endpoint, payload, events, System.nanoTime(), false);
+    }
+    
+    private CompletableFuture<ApiResponse<Object>> sendPayloadAsync(String endpoint, byte[] payload, int events, long submittedAt,
+                                                                    boolean blocking) {
+        if (spool == null) {
+            return dispatchPayload(endpoint, payload, events, submittedAt, blocking);
+        }
+        
+        long id;
+        try {
+            id = spool.append(endpoint, payload);
+        } catch (IOException e) {
+            logger.error("Failed to spool payload for " + endpoint + ", sending without durability", e);
+            return dispatchPayload(endpoint, payload, events, submittedAt, blocking);
+        }
+        
+        CompletableFuture<ApiResponse<Object>> future = dispatchPayload(endpoint, payload, events, submittedAt, blocking);
+        future.whenComplete((response, error) -> {
+            if (response != null && isSettled(response)) {
+                spool.acknowledge(id);
+            } else {
+                spool.release(id);
+                logger.warn("Delivery to " + endpoint + " failed, payload kept in spool for replay");
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Claims an event for sending
+     * @return false if the event was sent to the endpoint within the dedup window and must be dropped
+     */
+    boolean claimEvent(String endpoint, Object event) {
+        return dedup == null || dedup.claim(endpoint, event);
+    }
+    
+    /**
+     * Releases the claim of an event that will not be sent
+     */
+    void releaseEvent(String endpoint, Object event) {
+        if (dedup != null) {
+            dedup.release(endpoint, Collections.singletonList(event));
+        }
+    }
+    
+    /**
+     * Releases the claims of events whose request was not delivered so that a resend
+     * goes through; spooled events stay claimed since the spool replays them
+     */
+    void settleEvents(String endpoint, List<?> events, ApiResponse<Object> response) {
+        if (dedup != null && spool == null && (response == null || !isSettled(response))) {
+            dedup.release(endpoint, events);
+        }
+    }
+    
+    /**
+     * Result of a send whose events were all dropped as duplicates
+     */
+    static ApiResponse<Object> duplicateResponse() {
+        return ApiResponse.success(208, null, Instant.now());
+    }
+    
+    /**
+     * A response settles a spooled payload if it was accepted or rejected in a way a
+     * replay cannot fix
+     */
+    private boolean isSettled(ApiResponse<Object> response) {
+        int status = response.getStatus();
+        return response.isSuccess() || (status >= 400 && status < 500 && status != 408 && status != 429);
+    }
+    
+    private CompletableFuture<ApiResponse<Object>> dispatchPayload(String endpoint, byte[] payload, int events, long submittedAt,
+                                                                   boolean blocking) {
+        try {
+            return dispatch(endpoint, buildRequest(endpoint, payload), payload, events, submittedAt, blocking);
+        } catch (Exception e) {
+            logger.error("Failed to send data to " + endpoint, e);
+            return CompletableFuture.completedFuture(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+        }
+    }
+    
+    /**
+     * Sends a request over HTTP.
+     * Requests are paced by the endpoint's RateLimiter and failed attempts are retried
+     * according to the RetryPolicy; all waits are scheduled on a timer instead of
+     * sleeping on an OkHttp dispatcher thread. Attempts beyond the endpoint's adaptive
+     * concurrency limit wait for a free slot, and while its circuit breaker is open they
+     * are rejected without a call.
+     * A blocking send makes every attempt on the calling thread with {@link Call#execute()} and
+     * waits out its delays there, returning a completed future. It never waits for a dispatcher
+     * slot, so the blocking API can be called from an async callback or the open circuit fallback.
+     * @param payload Uncompressed body for the open circuit fallback, null for a streaming body
+     * @param submittedAt System.nanoTime() when the caller handed over the data, the start
+     *                    of the total latency recorded on completion
+     * @param blocking Whether to send on the calling thread
+     */
+    private CompletableFuture<ApiResponse<Object>> dispatch(String endpoint, Request request, byte[] payload, int events,
+                                                          long submittedAt, boolean blocking) throws IOException {
+        CompletableFuture<ApiResponse<Object>> future = new CompletableFuture<>();
+        SendState state = new SendState(endpoint, request, payload, retryPolicy, rateLimiter(endpoint),
+                concurrencyLimiter(endpoint), circuitBreaker(endpoint), future, blocking);
+        metrics.recordRequest(endpoint, bodySize(request.body()), events);
+        
+        // Cancelling the returned future aborts the in-flight HTTP call and any pending retry
+        future.whenComplete((result, error) -> {
+            Call call = state.currentCall.get();
+            if (future.isCancelled() && call != null) {
+                call.cancel();
+            }
+            if (result != null) {
+                metrics.recordCompletion(endpoint, result.getStatus(), System.nanoTime() - submittedAt);
+            }
+        });
+        
+        if (blocking) {
+            // Retries hand their delay back to this loop instead of nesting in the previous attempt
+            long delayMillis = 0;
+            while (delayMillis != RetryPolicy.NO_RETRY) {
+                state.retryDelayMillis = RetryPolicy.NO_RETRY;
+                sendPaced(state, delayMillis);
+                delayMillis = state.retryDelayMillis;
+            }
+        } else {
+            sendPaced(state, 0);
+        }
+        return future;
+    }
+    
+    /**
+     * Bytes put on the wire for a body; streamed compressed bodies count their uncompressed size
+     */
+    private static long bodySize(RequestBody body) throws IOException {
+        if (body instanceof StreamingJsonBody) {
+            return ((StreamingJsonBody) body).uncompressedLength();
+        }
+        return body != null ? Math.max(0, body.contentLength()) : 0;
+    }
+    
+    private RateLimiter rateLimiter(String endpoint) {
+        return rateLimiters.computeIfAbsent(endpoint, key -> {
+            RateLimit limit = config.getRateLimit(key);
+            return limit != null
+                    ? new RateLimiter(limit.getRequestsPerSecond(), limit.getBurst())
+                    : new RateLimiter(0, 1);
+        });
+    }
+    
+    /**
+     * @return The endpoint's concurrency limiter, null if its in-flight requests are not limited
+     */
+    private ConcurrencyLimiter concurrencyLimiter(String endpoint) {
+        ConcurrencyLimit limit = config.getConcurrencyLimit(endpoint);
+        if (limit == null) {
+            return null;
+        }
+        return concurrencyLimiters.computeIfAbsent(endpoint, key -> new ConcurrencyLimiter(
+            limit.getInitialLimit(),
+            limit.getMinLimit(),
+            limit.getMaxLimit(),
+            limit.getMaxQueued(),
+            SCHEDULER
+        ));
+    }
+    
+    /**
+     * @return The endpoint's circuit breaker, null if circuit breaking is disabled for it
+     */
+    private CircuitBreaker circuitBreaker(String endpoint) {
+        CircuitBreakerConfig breakerConfig = config.getCircuitBreaker(endpoint);
+        if (breakerConfig == null) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(endpoint, key -> createCircuitBreaker(key, breakerConfig));
+    }
+    
+    private CircuitBreaker createCircuitBreaker(String endpoint, CircuitBreakerConfig breakerConfig) {
+        CircuitBreaker.StateListener listener = breakerConfig.getStateListener();
+        return new CircuitBreaker(
+            endpoint,
+            breakerConfig.getSlidingWindowSize(),
+            breakerConfig.getMinimumCalls(),
+            breakerConfig.getFailureRateThreshold(),
+            breakerConfig.getSlowCallRateThreshold(),
+            breakerConfig.getSlowCallDuration(),
+            breakerConfig.getOpenDuration(),
+            breakerConfig.getHalfOpenCalls(),
+            (name, from, to) -> {
+                if (to == CircuitBreaker.State.OPEN) {
+                    logger.warn("Circuit breaker for " + name + " opened, rejecting requests");
                 } else {
-                    return ApiResponse.error(response.code(), "Request failed", responseBody, Instant.now());
+                    logger.info("Circuit breaker for " + name + " moved from " + from + " to " + to);
+                }
+                if (listener != null) {
+                    try {
+                        listener.onStateTransition(name, from, to);
+                    } catch (RuntimeException e) {
+                        logger.warn("Circuit breaker listener failed", e);
+                    }
                 }
             }
+        );
+    }
+    
+    /**
+     * Sends the next attempt once both the given delay and the rate limiter allow it.
+     * An attempt the circuit breaker rejects completes the request right away.
+     */
+    private void sendPaced(SendState state, long delayMillis) {
+        if (state.future.isDone()) {
+            return;
+        }
+        if (state.breaker != null && !state.breaker.tryAcquire()) {
+            rejectOpenCircuit(state);
+            return;
+        }
+        long waitNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(delayMillis), state.limiter.reserve());
+        if (waitNanos <= 0) {
+            sendAttempt(state);
+        } else if (!state.blocking) {
+            SCHEDULER.schedule(() -> sendAttempt(state), waitNanos, TimeUnit.NANOSECONDS);
+        } else if (pause(waitNanos)) {
+            sendAttempt(state);
+        } else {
+            releaseCircuitPermit(state);
+            state.future.complete(ApiResponse.error(0, "Interrupted while sending to " + state.endpoint, null, Instant.now()));
+        }
+    }
+    
+    /**
+     * Sleeps on the calling thread of a blocking send
+     * @return false if the thread was interrupted
+     */
+    private static boolean pause(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * Starts an attempt once the concurrency limiter grants a slot. An attempt shed because
+     * too many are already waiting completes the request right away.
+     */
+    private void sendAttempt(SendState state) {
+        if (state.future.isDone()) {
+            releaseCircuitPermit(state);
+            return;
+        }
+        if (state.concurrency == null) {
+            startCall(state);
+            return;
+        }
+        // A blocking send waits for its slot and then calls on its own thread, not the scheduler's
+        CompletableFuture<Void> slot = state.blocking ? new CompletableFuture<>() : null;
+        if (!state.concurrency.submit(state.blocking ? () -> slot.complete(null) : () -> startCall(state))) {
+            releaseCircuitPermit(state);
+            logger.warn("Concurrency limit reached for " + state.endpoint + ", request rejected");
+            state.future.complete(ApiResponse.error(0, "Concurrency limit reached for " + state.endpoint, null, Instant.now()));
+        } else if (slot != null) {
+            slot.join();
+            startCall(state);
+        }
+    }
+    
+    /**
+     * Enqueues the HTTP call of an attempt, or executes it for a blocking send; holds a
+     * concurrency slot until the call completes
+     */
+    private void startCall(SendState state) {
+        if (state.future.isDone()) {
+            if (state.concurrency != null) {
+                state.concurrency.release();
+            }
+            releaseCircuitPermit(state);
+            return;
+        }
+        Call call = httpClient.newCall(state.request);
+        state.currentCall.set(call);
+        long attemptStart = System.nanoTime();
+        
+        if (!state.blocking) {
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    onAttemptFailure(state, call, attemptStart, e);
+                }
+                
+                @Override
+                public void onResponse(Call call, Response response) {
+                    onAttemptResponse(state, attemptStart, response);
+                }
+            });
+            return;
+        }
+        Response response;
+        try {
+            response = call.execute();
+        } catch (IOException e) {
+            onAttemptFailure(state, call, attemptStart, e);
+            return;
+        }
+        onAttemptResponse(state, attemptStart, response);
+    }
+    
+    private void onAttemptFailure(SendState state, Call call, long attemptStart, IOException e) {
+        long duration = System.nanoTime() - attemptStart;
+        metrics.recordAttempt(state.endpoint, 0, duration);
+        if (state.concurrency != null) {
+            if (call.isCanceled()) {
+                state.concurrency.release();
+            } else {
+                state.concurrency.onSample(duration, true);
+            }
+        }
+        if (call.isCanceled()) {
+            releaseCircuitPermit(state);
+        } else if (state.breaker != null) {
+            state.breaker.onResult(false, duration);
+        }
+        state.policy.recordAttempt(false);
+        if (!call.isCanceled() && retry(state, state.policy.nextDelayMillis(++state.retries, state.startedAt))) {
+            logger.warn("Request to " + state.endpoint + " failed, retrying: " + e.getMessage());
+            return;
+        }
+        logger.error("Failed to send data to " + state.endpoint, e);
+        state.future.complete(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+    }
+    
+    private void onAttemptResponse(SendState state, long attemptStart, Response response) {
+        long duration = System.nanoTime() - attemptStart;
+        metrics.recordAttempt(state.endpoint, response.code(), duration);
+        if (state.concurrency != null) {
+            state.concurrency.onSample(duration, response.code() == 429 || response.code() >= 500);
+        }
+        if (state.breaker != null) {
+            state.breaker.onResult(response.code() < 500, duration);
+        }
+        try (response) {
+            if (handleRetryableStatus(state, response)) {
+                return;
+            }
+            state.future.complete(toApiResponse(state.endpoint, response));
         } catch (Exception e) {
-            logger.error("Failed to send data to " + endpoint, e);
-            return ApiResponse.error(0, e.getMessage(), null, Instant.now());
+            logger.error("Failed to send data to " + state.endpoint, e);
+            state.future.complete(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
         }
     }
     
+    /**
+     * Gives back the circuit breaker permit of an attempt that made no call
+     */
+    private static void releaseCircuitPermit(SendState state) {
+        if (state.breaker != null) {
+            state.breaker.release();
+        }
+    }
+    
+    /**
+     * Completes a request whose attempt the open circuit breaker rejected. Without a spool
+     * the payload is handed to the configured fallback; with one it stays spooled.
+     */
+    private void rejectOpenCircuit(SendState state) {
+        logger.debug("Circuit breaker for " + state.endpoint + " is open, request rejected");
+        CircuitBreakerConfig breakerConfig = config.getCircuitBreaker(state.endpoint);
+        OpenCircuitFallback fallback = breakerConfig != null ? breakerConfig.getFallback() : null;
+        if (fallback == null || spool != null) {
+            completeOpenCircuit(state);
+            return;
+        }
+        
+        // Retries get here on the scheduler thread, which must not serialize bodies or wait for the fallback
+        Executor executor = state.blocking ? Runnable::run : httpClient.dispatcher().executorService();
+        try {
+            executor.execute(() -> {
+                try {
+                    byte[] payload = state.payload != null
+                            ? state.payload
+                            : ((StreamingJsonBody) state.request.body()).toJson();
+                    fallback.onRejected(state.endpoint, payload);
+                } catch (Exception e) {
+                    logger.error("Open circuit fallback failed for " + state.endpoint, e);
+                } finally {
+                    completeOpenCircuit(state);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.error("Open circuit fallback not run for " + state.endpoint + ", client is closed");
+            completeOpenCircuit(state);
+        }
+    }
+    
+    private static void completeOpenCircuit(SendState state) {
+        state.future.complete(ApiResponse.error(0, "Circuit breaker open for " + state.endpoint, null, Instant.now()));
+    }
+    
+    /**
+     * Feeds the response status into the rate limiter and retry policy
+     * @return true if the request was rescheduled and the response must be discarded
+     */
+    private boolean handleRetryableStatus(SendState state, Response response) {
+        int code = response.code();
+        long retryAfter = RetryPolicy.parseRetryAfterMillis(response.header("Retry-After"));
+        
+        if (code == 429) {
+            state.limiter.onThrottled(retryAfter);
+            if (retry(state, state.policy.throttledDelayMillis(++state.throttledRetries, state.startedAt, retryAfter))) {
+                logger.warn("Request to " + state.endpoint + " was throttled, retrying");
+                return true;
+            }
+            return false;
+        }
+        
+        state.limiter.onSuccess();
+        boolean serverError = code >= 500;
+        state.policy.recordAttempt(!serverError);
+        if (serverError && retry(state, state.policy.nextDelayMillis(++state.retries, state.startedAt, retryAfter))) {
+            logger.warn("Request to " + state.endpoint + " returned " + code + ", retrying");
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Schedules the next attempt if the retry policy granted a delay
+     * @return true if a retry was scheduled
+     */
+    private boolean retry(SendState state, long delayMillis) {
+        if (delayMillis == RetryPolicy.NO_RETRY || state.future.isDone()) {
+            return false;
+        }
+        metrics.recordRetry(state.endpoint);
+        if (state.blocking) {
+            state.retryDelayMillis = delayMillis;
+        } else {
+            sendPaced(state, delayMillis);
+        }
+        return true;
+    }
+    
+    /**
+     * Serializes a payload to UTF-8 JSON; strings are treated as pre-serialized JSON
+     */
+    byte[] serialize(Object data) throws IOException {
+        return (data instanceof String)
+                ? ((String) data).getBytes(StandardCharsets.UTF_8)
+                : writers.writeValueAsBytes(data);
+    }
+    
+    /**
+     * Builds a signed request. The HMAC is computed over the uncompressed payload; the
+     * body is then compressed once with the configured codec, if any, and the same bytes
+     * are reused by every retry.
+     */
+    private Request buildRequest(String endpoint, byte[] payload) throws IOException {
+        long start = System.nanoTime();
+        String signature = signer.sign(payload);
+        metrics.recordSigning(endpoint, System.nanoTime() - start);
+        Request.Builder builder = signedRequest(endpoint, signature);
+        
+        CompressionCodec codec = config.getCompressionCodec();
+        if (codec != null && payload.length >= config.getCompressionThreshold()) {
+            builder.post(RequestBody.create(codec.compress(payload), JSON))
+                    .header("Content-Encoding", codec.getEncoding());
+        } else {
+            builder.post(RequestBody.create(payload, JSON));
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Builds a request whose body is serialized while it is written to the connection.
+     * The value is serialized once up front, straight into the HMAC, to obtain the
+     * signature header and content length without buffering the JSON. That pass is
+     * recorded as signing time.
+     */
+    private Request buildStreamingRequest(String endpoint, Object data) throws IOException {
+        long start = System.nanoTime();
+        SigningOutputStream signing = signer.newStream();
+        writers.writeValue(signing, data);
+        metrics.recordSigning(endpoint, System.nanoTime() - start);
+        
+        CompressionCodec codec = config.getCompressionCodec();
+        if (codec != null && signing.size() < config.getCompressionThreshold()) {
+            codec = null;
+        }
+        
+        Request.Builder builder = signedRequest(endpoint, signing.signature())
+                .post(new StreamingJsonBody(writers, data, signing.size(), codec, JSON));
+        if (codec != null) {
+            builder.header("Content-Encoding", codec.getEncoding());
+        }
+        return builder.build();
+    }
+    
+    private Request.Builder signedRequest(String endpoint, String hmacSignature) {
+        Request.Builder builder = new Request.Builder()
+                .url(config.getBaseUrl() + endpoint)
+                .header("x-optikpi-token", config.getAuthToken())
+                .header("x-optikpi-account-id", config.getAccountId())
+                .header("x-optikpi-workspace-id", config.getWorkspaceId())
+                .header("x-hmac-signature", hmacSignature)
+                .header("x-hmac-algorithm", "sha256");
+        if (config.isIdempotencyKeys()) {
+            // The signature is a keyed digest of the payload, identical for every retry and replay
+            builder.header("Idempotency-Key", hmacSignature.substring(0, IDEMPOTENCY_KEY_LENGTH));
+        }
+        return builder;
+    }
+    
+    /**
+     * Converts a final response. Successful bodies are decoded into the endpoint's response
+     * type straight from the bytes, on arrival or lazily, or skipped entirely, depending on
+     * the ResponseMode; an empty body gives null data.
+     */
+    private ApiResponse<Object> toApiResponse(String endpoint, Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            String responseBody = response.body() != null ? response.body().string() : "";
+            return ApiResponse.error(response.code(), "Request failed", responseBody, Instant.now());
+        }
+        
+        ResponseMode mode = config.getResponseMode();
+        if (mode == ResponseMode.STATUS_ONLY || response.body() == null) {
+            // Closing the unread body lets OkHttp discard it
+            return ApiResponse.success(response.code(), null, Instant.now());
+        }
+        
+        byte[] body = response.body().bytes();
+        ObjectReader reader = responseReader(endpoint);
+        if (mode == ResponseMode.LAZY) {
+            return new LazyApiResponse(response.code(), body, reader, Instant.now());
+        }
+        return ApiResponse.success(response.code(), body.length > 0 ? reader.readValue(body) : null, Instant.now());
+    }
+    
+    private ObjectReader responseReader(String endpoint) {
+        return responseReaders.computeIfAbsent(config.getResponseType(endpoint), objectMapper::readerFor);
+    }
+    
     public void updateConfig(ClientConfig newConfig) {
         this.config.updateFrom(newConfig);
         validateConfig(this.config);
+        if (!signer.isDerivedFrom(config.getAuthToken(), config.getAccountId(), config.getWorkspaceId())) {
+            this.signer = createSigner(config);
+        }
+        this.retryPolicy = createRetryPolicy(config);
+        this.rateLimiters.clear();
+        this.concurrencyLimiters.clear();
+        this.circuitBreakers.clear();
     }
     
     public ClientConfig getConfig() {
@@ -293,7 +1228,155 @@ public class DataPipelineClient {
         return copy;
     }
     
+    /**
+     * Creates an auto-batching producer sending through this client
+     * @param producerConfig Batching configuration
+     * @return New producer; close it to drain queued events
+     */
+    public EventProducer createProducer(ProducerConfig producerConfig) {
+        return new EventProducer(this, producerConfig);
+    }
+    
+    /**
+     * @return Point-in-time view of the per-endpoint counters and latency histograms
+     */
+    public MetricsSnapshot getMetrics() {
+        return metrics.snapshot();
+    }
+    
+    /**
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @return Current adaptive in-flight limit of the endpoint, 0 if its concurrency is not limited
+     */
+    public int getConcurrencyLimit(String endpoint) {
+        ConcurrencyLimiter limiter = concurrencyLimiter(endpoint);
+        return limiter != null ? limiter.getLimit() : 0;
+    }
+    
+    /**
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @return Current state of the endpoint's circuit breaker, null if circuit breaking is disabled for it
+     */
+    public CircuitBreaker.State getCircuitState(String endpoint) {
+        CircuitBreaker breaker = circuitBreaker(endpoint);
+        return breaker != null ? breaker.getState() : null;
+    }
+    
     public ClientConfig getConfigForLogging() {
         return config.copy();
     }
+    
+    /**
+     * Shuts down the sendBatch lane threads, stops the spool drainer and closes the spool, if
+     * configured. Unacknowledged payloads are replayed by the next client opened on the same
+     * spool directory.
+     */
+    @Override
+    public void close() {
+        ExecutorService executor = batchExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (spoolDrainer != null) {
+            spoolDrainer.close();
+        }
+        if (spool != null) {
+            try {
+                spool.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close spool", e);
+            }
+        }
+    }
+    
+    /**
+     * Progress of one request across pacing delays and retries
+     */
+    private static final class SendState {
+        private final String endpoint;
+        private final Request request;
+        private final byte[] payload;
+        private final RetryPolicy policy;
+        private final RateLimiter limiter;
+        private final ConcurrencyLimiter concurrency;
+        private final CircuitBreaker breaker;
+        private final CompletableFuture<ApiResponse<Object>> future;
+        private final AtomicReference<Call> currentCall = new AtomicReference<>();
+        private final long startedAt = System.nanoTime();
+        private final boolean blocking;
+        // Only touched by the callback of the single in-flight attempt
+        private int retries;
+        private int throttledRetries;
+        // Delay before the next attempt of a blocking send, NO_RETRY if there is none
+        private long retryDelayMillis;
+        
+        private SendState(String endpoint, Request request, byte[] payload, RetryPolicy policy, RateLimiter limiter,
+                          ConcurrencyLimiter concurrency, CircuitBreaker breaker,
+                          CompletableFuture<ApiResponse<Object>> future, boolean blocking) {
+            this.endpoint = endpoint;
+            this.request = request;
+            this.payload = payload;
+            this.policy = policy;
+            this.limiter = limiter;
+            this.concurrency = concurrency;
+            this.breaker = breaker;
+            this.future = future;
+            this.blocking = blocking;
+        }
+    }
+    
+    /**
+     * Chunk progress and results of one section while a batch is being sent
+     */
+    private static final class SectionSend {
+        private final BatchSection section;
+        private final PayloadChunker chunker;
+        private final List<ChunkResult> chunks = new ArrayList<>();
+        
+        private SectionSend(BatchSection section, PayloadChunker chunker) {
+            this.section = section;
+            this.chunker = chunker;
+        }
+        
+        private synchronized void add(PayloadChunker.Chunk chunk, ApiResponse<Object> response) {
+            chunks.add(new ChunkResult(chunk.startIndex, chunk.endIndex, chunk.bytes, response));
+        }
+        
+        /**
+         * Stores the section outcome in the batch response
+         * @return true if every chunk of the section succeeded
+         */
+        private synchronized boolean applyTo(BatchResponse results) {
+            if (chunks.isEmpty()) {
+                // Every item was invalid and stripped, so nothing was sent
+                return true;
+            }
+            chunks.sort(Comparator.comparingInt(ChunkResult::getStartIndex));
+            ApiResponse<Object> response = chunks.size() == 1 ? chunks.get(0).getResponse() : aggregate();
+            section.result.accept(results, response);
+            results.getChunks().put(section.name, new ArrayList<>(chunks));
+            return response.isSuccess();
+        }
+        
+        private ApiResponse<Object> aggregate() {
+            List<Object> data = new ArrayList<>(chunks.size());
+            ApiResponse<Object> firstFailure = null;
+            int failed = 0;
+            for (ChunkResult chunk : chunks) {
+                data.add(chunk.getResponse().getData());
+                if (!chunk.isSuccess()) {
+                    failed++;
+                    if (firstFailure == null) {
+                        firstFailure = chunk.getResponse();
+                    }
+                }
+            }
+            
+            if (firstFailure == null) {
+                return ApiResponse.success(chunks.get(chunks.size() - 1).getResponse().getStatus(), data, Instant.now());
+            }
+            return ApiResponse.error(firstFailure.getStatus(),
+                    failed + " of " + chunks.size() + " chunks failed", data, Instant.now());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.optikpi.datapipeline;
+
+import com.optikpi.datapipeline.model.AccountEvent;
+import com.optikpi.datapipeline.model.CustomerProfile;
+import com.optikpi.datapipeline.model.DepositEvent;
+import com.optikpi.datapipeline.model.ExtendedAttributesEvent;
+import com.optikpi.datapipeline.model.GamingActivityEvent;
+import com.optikpi.datapipeline.model.ReferFriendEvent;
+import com.optikpi.datapipeline.model.SystemEvent;
+import com.optikpi.datapipeline.model.WalletBalanceEvent;
+import com.optikpi.datapipeline.model.WithdrawEvent;
+
+/**
+ * Data Pipeline API endpoint paths, relative to the configured base URL
+ */
+public final class Endpoints {
+    public static final String CUSTOMERS = "/customers";
+    public static final String EXTENDED_ATTRIBUTES = "/extattributes";
+    public static final String ACCOUNT_EVENTS = "/events/account";
+    public static final String DEPOSIT_EVENTS = "/events/deposit";
+    public static final String WITHDRAW_EVENTS = "/events/withdraw";
+    public static final String GAMING_ACTIVITY_EVENTS = "/events/gaming-activity";
+    public static final String REFER_FRIEND_EVENTS = "/events/refer-friend";
+    public static final String WALLET_BALANCE_EVENTS = "/events/wallet-balance";
+    public static final String SYSTEM_EVENTS = "/events/system-events";
+
+    private Endpoints() {}
+
+    /**
+     * Resolves the endpoint a model object is sent to
+     * @param event Model instance
+     * @return Endpoint path
+     * @throws IllegalArgumentException if the object is not a known model type
+     */
+    public static String forEvent(Object event) {
+        if (event instanceof CustomerProfile) return CUSTOMERS;
+        if (event instanceof ExtendedAttributesEvent) return EXTENDED_ATTRIBUTES;
+        if (event instanceof AccountEvent) return ACCOUNT_EVENTS;
+        if (event instanceof DepositEvent) return DEPOSIT_EVENTS;
+        if (event instanceof WithdrawEvent) return WITHDRAW_EVENTS;
+        if (event instanceof GamingActivityEvent) return GAMING_ACTIVITY_EVENTS;
+        if (event instanceof ReferFriendEvent) return REFER_FRIEND_EVENTS;
+        if (event instanceof WalletBalanceEvent) return WALLET_BALANCE_EVENTS;
+        if (event instanceof SystemEvent) return SYSTEM_EVENTS;
+        throw new IllegalArgumentException("Unsupported event type: "
+                + (event == null ? "null" : event.getClass().getName()));
+    }
+}
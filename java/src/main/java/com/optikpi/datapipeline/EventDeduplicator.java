@@ -0,0 +1,119 @@
+package com.optikpi.datapipeline;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.optikpi.datapipeline.model.IdentifiedEvent;
+
+/**
+ * Remembers the event_ids sent to each endpoint within a time window
+ *
+ * An event is claimed before it is serialized; a second claim of the same event_id on
+ * the same endpoint fails until the first one expires, is evicted to stay within the
+ * entry limit, or is released because its request was not delivered. Events without an
+ * event_id are always claimable.
+ */
+final class EventDeduplicator {
+    private final long windowNanos;
+    private final int maxEntries;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    EventDeduplicator(long windowMillis, int maxEntries) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return The event_id of a model event or of a map holding an "event_id" string, else null
+     */
+    static String eventIdOf(Object item) {
+        if (item instanceof IdentifiedEvent) {
+            return ((IdentifiedEvent) item).getEventId();
+        }
+        if (item instanceof Map) {
+            Object id = ((Map<?, ?>) item).get("event_id");
+            return id instanceof String ? (String) id : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return false if the event was already claimed on this endpoint within the window
+     */
+    boolean claim(String endpoint, Object item) {
+        String eventId = eventIdOf(item);
+        return eventId == null || window(endpoint).claim(eventId, System.nanoTime());
+    }
+
+    /**
+     * Claims each item in turn
+     * @return The claimable items in their original order
+     */
+    List<Object> claimAll(String endpoint, List<?> items) {
+        List<Object> claimed = new ArrayList<>(items.size());
+        for (Object item : items) {
+            if (claim(endpoint, item)) {
+                claimed.add(item);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Forgets claimed events so that a resend is not dropped
+     */
+    void release(String endpoint, Collection<?> items) {
+        Window window = windows.get(endpoint);
+        if (window == null) {
+            return;
+        }
+        for (Object item : items) {
+            String eventId = eventIdOf(item);
+            if (eventId != null) {
+                window.release(eventId);
+            }
+        }
+    }
+
+    private Window window(String endpoint) {
+        return windows.computeIfAbsent(endpoint, key -> new Window());
+    }
+
+    /**
+     * Claimed event_ids of one endpoint in claim order, so expired entries sit at the head
+     */
+    private final class Window {
+        private final LinkedHashMap<String, Long> claimedAt = new LinkedHashMap<>();
+
+        private synchronized boolean claim(String eventId, long now) {
+            expire(now);
+            if (claimedAt.containsKey(eventId)) {
+                return false;
+            }
+            claimedAt.put(eventId, now);
+            if (claimedAt.size() > maxEntries) {
+                Iterator<Long> eldest = claimedAt.values().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            return true;
+        }
+
+        private synchronized void release(String eventId) {
+            claimedAt.remove(eventId);
+        }
+
+        private void expire(long now) {
+            Iterator<Long> entries = claimedAt.values().iterator();
+            while (entries.hasNext() && now - entries.next() >= windowNanos) {
+                entries.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.optikpi.datapipeline;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Auto-batching event producer
+ *
+ * Single events are serialized on {@link #send(Object)}, queued per endpoint and sent
+ * as a JSON array once the batch reaches {@link ProducerConfig#getBatchSize()} events,
+ * {@link ProducerConfig#getMaxBatchBytes()} bytes, or has waited
+ * {@link ProducerConfig#getLingerMs()} milliseconds, whichever comes first.
+ *
+ * The future returned for an event completes with the response of the request that
+ * carried it. Call {@link #close()} to drain queued events before shutdown.
+ */
+public class EventProducer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(EventProducer.class);
+
+    private final DataPipelineClient client;
+    private final ProducerConfig config;
+    private final Map<String, EndpointQueue> queues = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<ApiResponse<Object>>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService lingerScheduler;
+    private volatile boolean closed;
+
+    public EventProducer(DataPipelineClient client, ProducerConfig config) {
+        if (client == null) {
+            throw new IllegalArgumentException("Client cannot be null");
+        }
+        this.client = client;
+        this.config = validateConfig(config);
+        this.lingerScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "optikpi-producer-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private ProducerConfig validateConfig(ProducerConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Producer configuration cannot be null");
+        }
+        if (config.getBatchSize() < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (config.getMaxBatchBytes() < 1) {
+            throw new IllegalArgumentException("maxBatchBytes must be at least 1");
+        }
+        if (config.getLingerMs() < 0) {
+            throw new IllegalArgumentException("lingerMs cannot be negative");
+        }
+        return config;
+    }
+
+    /**
+     * Queues a model event; the endpoint is resolved from the event type
+     * @param event Model instance such as DepositEvent or GamingActivityEvent
+     * @return Future completed with the response of the batch carrying the event
+     */
+    public CompletableFuture<ApiResponse<Object>> send(Object event) {
+        return send(Endpoints.forEvent(event), event);
+    }
+
+    /**
+     * Queues a single event for the given endpoint
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param event Event object or pre-serialized JSON object string
+     * @return Future completed with the response of the batch carrying the event
+     */
+    public CompletableFuture<ApiResponse<Object>> send(String endpoint, Object event) {
+        if (closed) {
+            throw new IllegalStateException("Producer is closed");
+        }
+        if (!client.claimEvent(endpoint, event)) {
+            return CompletableFuture.completedFuture(DataPipelineClient.duplicateResponse());
+        }
+
+        byte[] json;
+        try {
+            json = client.serialize(event);
+        } catch (IOException e) {
+            client.releaseEvent(endpoint, event);
+            logger.error("Failed to serialize event for " + endpoint, e);
+            return CompletableFuture.completedFuture(ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+        }
+
+        EndpointQueue queue = queues.computeIfAbsent(endpoint, EndpointQueue::new);
+        List<Batch> ready = new ArrayList<>(2);
+        CompletableFuture<ApiResponse<Object>> result = queue.append(json, event, ready);
+        if (result == null) {
+            client.releaseEvent(endpoint, event);
+            throw new IllegalStateException("Producer is closed");
+        }
+        ready.forEach(batch -> dispatch(endpoint, batch));
+        return result;
+    }
+
+    /**
+     * Sends all queued events immediately and waits for every in-flight batch to complete
+     */
+    public void flush() {
+        drainAll();
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    /**
+     * Stops accepting events, sends everything still queued and waits up to
+     * {@link ProducerConfig#getCloseTimeoutMs()} for in-flight batches to complete
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        drainAll();
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+                    .get(config.getCloseTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Producer closed with " + inFlight.size() + " batches still in flight");
+        } catch (Exception e) {
+            logger.error("Failed to drain producer on close", e);
+        } finally {
+            lingerScheduler.shutdownNow();
+        }
+    }
+
+    private void drainAll() {
+        for (Map.Entry<String, EndpointQueue> entry : queues.entrySet()) {
+            Batch batch = entry.getValue().drain();
+            if (batch != null) {
+                dispatch(entry.getKey(), batch);
+            }
+        }
+    }
+
+    private void dispatch(String endpoint, Batch batch) {
+        CompletableFuture<ApiResponse<Object>> request = client.sendPayloadAsync(endpoint, batch.toJsonArray(), batch.events.size());
+        inFlight.add(request);
+        request.whenComplete((response, error) -> {
+            inFlight.remove(request);
+            client.settleEvents(endpoint, batch.sources, response);
+            if (error != null) {
+                batch.result.completeExceptionally(error);
+            } else {
+                batch.result.complete(response);
+            }
+        });
+    }
+
+    private void scheduleLinger(String endpoint, EndpointQueue queue, Batch batch) {
+        if (closed) {
+            // close() drains the batch once the queue lock is released
+            return;
+        }
+        batch.lingerTask = lingerScheduler.schedule(() -> {
+            Batch expired = queue.drainIfCurrent(batch);
+            if (expired != null) {
+                dispatch(endpoint, expired);
+            }
+        }, config.getLingerMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Events accumulated for one request
+     */
+    private static final class Batch {
+        private final List<byte[]> events = new ArrayList<>();
+        private final List<Object> sources = new ArrayList<>();
+        private final CompletableFuture<ApiResponse<Object>> result = new CompletableFuture<>();
+        private long elementBytes;
+        private ScheduledFuture<?> lingerTask;
+
+        private long sizeWith(byte[] event) {
+            return JsonArrays.sizeOf(elementBytes + event.length, events.size() + 1);
+        }
+
+        private long size() {
+            return JsonArrays.sizeOf(elementBytes, events.size());
+        }
+
+        private void add(byte[] event, Object source) {
+            elementBytes += event.length;
+            events.add(event);
+            sources.add(source);
+        }
+
+        private byte[] toJsonArray() {
+            return JsonArrays.join(events, elementBytes);
+        }
+    }
+
+    /**
+     * Open batch for a single endpoint
+     */
+    private final class EndpointQueue {
+        private final String endpoint;
+        private Batch current;
+
+        private EndpointQueue(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * @return Future of the batch the event joined, null if the producer is closed
+         */
+        private synchronized CompletableFuture<ApiResponse<Object>> append(byte[] event, Object source, List<Batch> ready) {
+            // Checked under the lock so that close() drains every event appended before it
+            if (closed) {
+                return null;
+            }
+            if (current != null && current.sizeWith(event) > config.getMaxBatchBytes()) {
+                ready.add(take());
+            }
+            if (current == null) {
+                current = new Batch();
+                scheduleLinger(endpoint, this, current);
+            }
+
+            Batch batch = current;
+            batch.add(event, source);
+            if (batch.events.size() >= config.getBatchSize() || batch.size() >= config.getMaxBatchBytes()) {
+                ready.add(take());
+            }
+            return batch.result;
+        }
+
+        private synchronized Batch drain() {
+            return current != null ? take() : null;
+        }
+
+        private synchronized Batch drainIfCurrent(Batch batch) {
+            return current == batch ? take() : null;
+        }
+
+        private Batch take() {
+            Batch batch = current;
+            current = null;
+            if (batch.lingerTask != null) {
+                batch.lingerTask.cancel(false);
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.optikpi.datapipeline;
+
+/**
+ * HTTP protocol preference for connections to the gateway
+ */
+public enum HttpProtocol {
+    /** HTTP/1.1 only */
+    HTTP_1_1,
+    /** HTTP/2 negotiated over TLS (ALPN), falling back to HTTP/1.1 */
+    HTTP_2,
+    /** Cleartext HTTP/2 with prior knowledge (h2c), e.g. for a local gateway stand-in */
+    H2C
+}
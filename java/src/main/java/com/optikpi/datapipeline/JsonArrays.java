@@ -0,0 +1,40 @@
+package com.optikpi.datapipeline;
+
+import java.util.List;
+
+/**
+ * Helpers for assembling JSON array payloads from individually serialized elements
+ */
+final class JsonArrays {
+    
+    private JsonArrays() {}
+    
+    /**
+     * Size of the JSON array holding the given elements, brackets and separators included
+     */
+    static long sizeOf(long elementBytes, int elementCount) {
+        return elementBytes + 2 + Math.max(0, elementCount - 1);
+    }
+    
+    /**
+     * Joins serialized JSON values into a single JSON array
+     * @param elements Serialized elements
+     * @param elementBytes Sum of the element lengths
+     * @return UTF-8 JSON array
+     */
+    static byte[] join(List<byte[]> elements, long elementBytes) {
+        byte[] payload = new byte[(int) sizeOf(elementBytes, elements.size())];
+        int offset = 0;
+        payload[offset++] = '[';
+        for (int i = 0; i < elements.size(); i++) {
+            if (i > 0) {
+                payload[offset++] = ',';
+            }
+            byte[] element = elements.get(i);
+            System.arraycopy(element, 0, payload, offset, element.length);
+            offset += element.length;
+        }
+        payload[offset] = ']';
+        return payload;
+    }
+}
@@ -0,0 +1,50 @@
+package com.optikpi.datapipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Successful response whose body is decoded on the first call to {@link #getData()}
+ */
+final class LazyApiResponse extends ApiResponse<Object> {
+    private final byte[] body;
+    private final ObjectReader reader;
+    private volatile boolean decoded;
+    
+    LazyApiResponse(int status, byte[] body, ObjectReader reader, Instant timestamp) {
+        super(true, status, null, null, timestamp);
+        this.body = body;
+        this.reader = reader;
+    }
+    
+    /**
+     * @throws UncheckedIOException If the body is not valid JSON for the endpoint's response type
+     */
+    @Override
+    public Object getData() {
+        if (!decoded) {
+            try {
+                // Concurrent first calls decode the same bytes, so either result may be kept
+                super.setData(body.length > 0 ? reader.readValue(body) : null);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to decode response body", e);
+            }
+            decoded = true;
+        }
+        return super.getData();
+    }
+    
+    @Override
+    public void setData(Object data) {
+        super.setData(data);
+        decoded = true;
+    }
+    
+    @Override
+    public byte[] getRawBody() {
+        return body;
+    }
+}
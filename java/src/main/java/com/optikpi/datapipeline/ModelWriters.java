@@ -0,0 +1,130 @@
+package com.optikpi.datapipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.optikpi.datapipeline.codegen.JsonWriterRegistry;
+import com.optikpi.datapipeline.codegen.ModelJsonWriter;
+
+/**
+ * Serializes payloads with the fastest writer available for their type
+ *
+ * Models with a compile-time generated {@link ModelJsonWriter}, alone or as a homogeneous
+ * List, are written directly to a JsonGenerator without databind introspection. Other
+ * payloads use an ObjectWriter resolved once per class and once per homogeneous List of
+ * a class, so the root serializer is prefetched instead of being looked up from the
+ * runtime type on every call. Lists mixing types, or holding nulls, use the untyped writer.
+ */
+final class ModelWriters {
+    private static final Map<Class<?>, ModelJsonWriter<?>> GENERATED = loadGeneratedWriters();
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter untyped;
+    private final Map<Class<?>, ObjectWriter> values = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> lists = new ConcurrentHashMap<>();
+
+    ModelWriters(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.untyped = mapper.writer();
+    }
+
+    private static Map<Class<?>, ModelJsonWriter<?>> loadGeneratedWriters() {
+        Map<Class<?>, ModelJsonWriter<?>> writers = new HashMap<>();
+        for (JsonWriterRegistry registry : ServiceLoader.load(JsonWriterRegistry.class, ModelWriters.class.getClassLoader())) {
+            for (ModelJsonWriter<?> writer : registry.writers()) {
+                writers.put(writer.type(), writer);
+            }
+        }
+        return writers;
+    }
+
+    byte[] writeValueAsBytes(Object value) throws IOException {
+        Class<?> type = payloadType(value);
+        ModelJsonWriter<Object> generated = generatedWriter(type);
+        if (generated == null) {
+            return writerFor(value, type).writeValueAsBytes(value);
+        }
+
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder()) {
+            writeGenerated(bytes, value, generated);
+            return bytes.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the value to the stream without closing it
+     */
+    void writeValue(OutputStream out, Object value) throws IOException {
+        Class<?> type = payloadType(value);
+        ModelJsonWriter<Object> generated = generatedWriter(type);
+        if (generated == null) {
+            writerFor(value, type).writeValue(out, value);
+        } else {
+            writeGenerated(out, value, generated);
+        }
+    }
+
+    private void writeGenerated(OutputStream out, Object value, ModelJsonWriter<Object> writer) throws IOException {
+        // The mapper's generator settings apply and its codec handles nested maps
+        try (JsonGenerator gen = mapper.createGenerator(out, JsonEncoding.UTF8)) {
+            if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                gen.writeStartArray(list, list.size());
+                for (Object item : list) {
+                    writer.write(item, gen);
+                }
+                gen.writeEndArray();
+            } else {
+                writer.write(value, gen);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelJsonWriter<Object> generatedWriter(Class<?> type) {
+        return type != null ? (ModelJsonWriter<Object>) GENERATED.get(type) : null;
+    }
+
+    private ObjectWriter writerFor(Object value, Class<?> type) {
+        if (type == null) {
+            return untyped;
+        }
+        return value instanceof List
+                ? lists.computeIfAbsent(type, this::listWriter)
+                : values.computeIfAbsent(type, mapper::writerFor);
+    }
+
+    private ObjectWriter listWriter(Class<?> elementType) {
+        return mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    /**
+     * @return Class of the value, or of every element of a List; null if there is none
+     */
+    private static Class<?> payloadType(Object value) {
+        if (!(value instanceof List)) {
+            return value != null ? value.getClass() : null;
+        }
+        List<?> list = (List<?>) value;
+        if (list.isEmpty() || list.get(0) == null) {
+            return null;
+        }
+        Class<?> type = list.get(0).getClass();
+        for (Object item : list) {
+            if (item == null || item.getClass() != type) {
+                return null;
+            }
+        }
+        return type;
+    }
+}
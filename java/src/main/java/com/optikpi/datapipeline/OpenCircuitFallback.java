@@ -0,0 +1,18 @@
+package com.optikpi.datapipeline;
+
+/**
+ * Receives payloads rejected because the circuit breaker of their endpoint is open
+ *
+ * Called on a thread of the OkHttp dispatcher's executor, never on the sending thread or
+ * the thread that paces and retries requests. The request completes once the fallback
+ * returns, so it should not block for long; hand the payload to a queue or store and
+ * resend it once the endpoint recovers.
+ */
+@FunctionalInterface
+public interface OpenCircuitFallback {
+    /**
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param payload JSON request body, uncompressed
+     */
+    void onRejected(String endpoint, byte[] payload);
+}
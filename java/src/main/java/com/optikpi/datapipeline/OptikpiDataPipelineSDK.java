@@ -1,5 +1,11 @@
 package com.optikpi.datapipeline;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.optikpi.datapipeline.metrics.MetricsSnapshot;
+import com.optikpi.datapipeline.resilience.CircuitBreaker;
+
 /**
  * Optikpi Data Pipeline API Java SDK
  * 
@@ -11,7 +17,7 @@ package com.optikpi.datapipeline;
  * @author Optikpi
  * License: MIT
  */
-public class OptikpiDataPipelineSDK {
+public class OptikpiDataPipelineSDK implements AutoCloseable {
     private final DataPipelineClient client;
     
     public OptikpiDataPipelineSDK(ClientConfig config) {
@@ -109,6 +115,134 @@ public class OptikpiDataPipelineSDK {
         return client.sendBatch(batchData);
     }
     
+    /**
+     * Sends customer profile data without blocking the calling thread
+     * @param data Customer profile data or array of profiles
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendCustomerProfileAsync(Object data) {
+        return client.sendCustomerProfileAsync(data);
+    }
+
+    /**
+     * Sends extended attributes data without blocking the calling thread
+     * @param data Extended attributes data or array of attributes
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendExtendedAttributesAsync(Object data) {
+        return client.sendExtendedAttributesAsync(data);
+    }
+
+    /**
+     * Sends account event data without blocking the calling thread
+     * @param data Account event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendAccountEventAsync(Object data) {
+        return client.sendAccountEventAsync(data);
+    }
+
+    /**
+     * Sends deposit event data without blocking the calling thread
+     * @param data Deposit event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendDepositEventAsync(Object data) {
+        return client.sendDepositEventAsync(data);
+    }
+
+    /**
+     * Sends withdrawal event data without blocking the calling thread
+     * @param data Withdrawal event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendWithdrawEventAsync(Object data) {
+        return client.sendWithdrawEventAsync(data);
+    }
+
+    /**
+     * Sends gaming activity event data without blocking the calling thread
+     * @param data Gaming activity event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendGamingActivityEventAsync(Object data) {
+        return client.sendGamingActivityEventAsync(data);
+    }
+
+    /**
+     * Sends refer friend event data without blocking the calling thread
+     * @param data Refer friend event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendReferFriendEventAsync(Object data) {
+        return client.sendReferFriendEventAsync(data);
+    }
+
+    /**
+     * Sends wallet balance event data without blocking the calling thread
+     * @param data Wallet balance event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendWalletBalanceEventAsync(Object data) {
+        return client.sendWalletBalanceEventAsync(data);
+    }
+
+    /**
+     * Sends system event data without blocking the calling thread
+     * @param data System event data or array of events
+     * @return Future completed with the API response
+     */
+    public CompletableFuture<ApiResponse<Object>> sendSystemEventAsync(Object data) {
+        return client.sendSystemEventAsync(data);
+    }
+
+    /**
+     * Sends multiple events in batch without blocking the calling thread
+     * @param batchData Object containing different event types
+     * @return Future completed with the batch response results
+     */
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchData batchData) {
+        return client.sendBatchAsync(batchData);
+    }
+
+    /**
+     * Sends a list of events as one array and reports the outcome of each item
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param items Events of that endpoint
+     * @return Per-item results, indexed like the list
+     */
+    public BulkResult sendBulk(String endpoint, List<?> items) {
+        return client.sendBulk(endpoint, items);
+    }
+
+    /**
+     * Sends a list of events as one array without blocking the calling thread
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @param items Events of that endpoint
+     * @return Future completed with the per-item results
+     */
+    public CompletableFuture<BulkResult> sendBulkAsync(String endpoint, List<?> items) {
+        return client.sendBulkAsync(endpoint, items);
+    }
+
+    /**
+     * Resends only the failed items of a bulk send, leaving items kept in the spool to its drainer
+     * @param result Result of sendBulk or of an earlier resubmission
+     * @return Per-item results over the same list
+     */
+    public BulkResult resubmitFailed(BulkResult result) {
+        return client.resubmitFailed(result);
+    }
+
+    /**
+     * Creates a producer that queues single events per endpoint and sends them in batches
+     * @param producerConfig Batching configuration
+     * @return New producer; close it to drain queued events
+     */
+    public EventProducer createProducer(ProducerConfig producerConfig) {
+        return client.createProducer(producerConfig);
+    }
+
     /**
      * Updates client configuration
      * @param newConfig New configuration options
@@ -125,6 +259,31 @@ public class OptikpiDataPipelineSDK {
         return client.getConfig();
     }
     
+    /**
+     * Gets per-endpoint send counters and latency histograms
+     * @return Snapshot of the metrics recorded so far
+     */
+    public MetricsSnapshot getMetrics() {
+        return client.getMetrics();
+    }
+    
+    /**
+     * Gets the state of an endpoint's circuit breaker
+     * @param endpoint Endpoint path, see {@link Endpoints}
+     * @return Current state, or null if circuit breaking is disabled for the endpoint
+     */
+    public CircuitBreaker.State getCircuitState(String endpoint) {
+        return client.getCircuitState(endpoint);
+    }
+    
+    /**
+     * Releases background resources such as the durable spool
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+    
     /**
      * Creates a new SDK instance with the given configuration
      * @param config Client configuration
@@ -0,0 +1,104 @@
+package com.optikpi.datapipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs a group of blocking tasks in parallel and waits for all of them
+ */
+final class ParallelTasks {
+    private ParallelTasks() {}
+    
+    /**
+     * Runs each task on the executor and waits until all of them have ended. The executor is
+     * left running, so it can be shared. If a task fails, the others are interrupted and its
+     * exception is rethrown.
+     * @param executor Executor with a thread for every task, such as one starting a thread per task
+     */
+    static void runAll(ExecutorService executor, List<Runnable> tasks) {
+        // A task is claimed either by its thread when it starts or by cancelAll, never both
+        List<AtomicBoolean> claims = new ArrayList<>(tasks.size());
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        CountDownLatch ended = new CountDownLatch(tasks.size());
+        boolean finished = false;
+        try {
+            CompletionService<Void> completed = new ExecutorCompletionService<>(executor);
+            for (Runnable task : tasks) {
+                AtomicBoolean claim = new AtomicBoolean();
+                claims.add(claim);
+                futures.add(completed.submit(() -> {
+                    if (!claim.compareAndSet(false, true)) {
+                        return;
+                    }
+                    try {
+                        task.run();
+                    } finally {
+                        ended.countDown();
+                    }
+                }, null));
+            }
+            // Tasks are collected as they end, so the first failure stops the rest right away
+            for (int i = 0; i < tasks.size(); i++) {
+                completed.take().get();
+            }
+            finished = true;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+        } finally {
+            if (!finished) {
+                cancelAll(tasks.size(), claims, futures, ended);
+            }
+            awaitEnd(ended);
+        }
+    }
+    
+    /**
+     * Interrupts the running tasks and counts the ones that never started as ended
+     */
+    private static void cancelAll(int tasks, List<AtomicBoolean> claims, List<Future<Void>> futures,
+                                  CountDownLatch ended) {
+        for (int i = 0; i < tasks; i++) {
+            if (i >= claims.size() || claims.get(i).compareAndSet(false, true)) {
+                ended.countDown();
+            }
+            if (i < futures.size()) {
+                futures.get(i).cancel(true);
+            }
+        }
+    }
+    
+    /**
+     * Waits for every started task, so none outlives the call
+     */
+    private static void awaitEnd(CountDownLatch ended) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                ended.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
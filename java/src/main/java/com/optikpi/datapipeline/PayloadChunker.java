@@ -0,0 +1,147 @@
+package com.optikpi.datapipeline;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Splits a list into JSON array payloads that respect the configured ChunkLimits; without
+ * limits the whole list, even an empty one, goes out as a single array.
+ * Items are serialized lazily, one chunk at a time, so only chunks being sent are held in memory.
+ * Items marked invalid, and items the client reports as duplicates, are left out of their chunk;
+ * a range holding only invalid items yields no chunk at all.
+ */
+final class PayloadChunker {
+    private static final ChunkLimits UNLIMITED = new ChunkLimits(Integer.MAX_VALUE, Long.MAX_VALUE);
+    
+    private final DataPipelineClient client;
+    private final String endpoint;
+    private final List<?> items;
+    private final BitSet invalid;
+    private final ChunkLimits limits;
+    // Not a monitor: lanes on virtual threads would pin their carriers while waiting for it
+    private final ReentrantLock lock = new ReentrantLock();
+    private int position;
+    private byte[] carried;
+    private Object carriedItem;
+    private boolean started;
+    
+    /**
+     * @param invalid Indices of items to leave out, null to send all
+     * @param limits Limits per request, null to send the list as one request
+     */
+    PayloadChunker(DataPipelineClient client, String endpoint, List<?> items, BitSet invalid, ChunkLimits limits) {
+        this.client = client;
+        this.endpoint = endpoint;
+        this.items = items;
+        this.invalid = invalid;
+        this.limits = limits != null ? limits : UNLIMITED;
+    }
+    
+    /**
+     * @return The next chunk, or null once every item has been handed out
+     */
+    Chunk next() {
+        lock.lock();
+        try {
+            return serializeNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private Chunk serializeNext() {
+        int start = carried != null ? position - 1 : position;
+        if (items.isEmpty() && !started) {
+            // An empty list is still posted as an empty array
+            started = true;
+            byte[] payload = JsonArrays.join(List.of(), 0);
+            return new Chunk(0, 0, payload.length, payload, List.of(), null);
+        }
+        if (start >= items.size()) {
+            return null;
+        }
+        
+        List<byte[]> elements = new ArrayList<>();
+        List<Object> sent = new ArrayList<>();
+        boolean skippedDuplicate = false;
+        long elementBytes = 0;
+        if (carried != null) {
+            elements.add(carried);
+            sent.add(carriedItem);
+            elementBytes = carried.length;
+            carried = null;
+            carriedItem = null;
+        }
+        
+        while (position < items.size() && elements.size() < limits.getMaxItems()) {
+            Object item = items.get(position);
+            if (invalid != null && invalid.get(position)) {
+                position++;
+                continue;
+            }
+            if (!client.claimEvent(endpoint, item)) {
+                skippedDuplicate = true;
+                position++;
+                continue;
+            }
+            byte[] element;
+            try {
+                element = client.serialize(item);
+            } catch (Exception e) {
+                client.releaseEvent(endpoint, item);
+                if (!elements.isEmpty()) {
+                    break;
+                }
+                position++;
+                return new Chunk(start, position, 0, null, List.of(),
+                        ApiResponse.error(0, e.getMessage(), null, Instant.now()));
+            }
+            position++;
+            
+            if (!elements.isEmpty()
+                    && JsonArrays.sizeOf(elementBytes + element.length, elements.size() + 1) > limits.getMaxBytes()) {
+                carried = element;
+                carriedItem = item;
+                break;
+            }
+            elements.add(element);
+            sent.add(item);
+            elementBytes += element.length;
+        }
+        
+        int end = carried != null ? position - 1 : position;
+        if (elements.isEmpty()) {
+            // Only invalid items were left: nothing to send, the validation report lists them
+            return skippedDuplicate ? new Chunk(start, end, 0, null, sent, DataPipelineClient.duplicateResponse()) : null;
+        }
+        byte[] payload = JsonArrays.join(elements, elementBytes);
+        return new Chunk(start, end, payload.length, payload, sent, null);
+    }
+    
+    /**
+     * A contiguous range of the source list, either serialized or settled without a request
+     * because it failed to serialize or held only duplicate items
+     */
+    static final class Chunk {
+        final int startIndex;
+        final int endIndex;
+        final long bytes;
+        final byte[] payload;
+        // Items of the range that are in the payload
+        final List<Object> sent;
+        final ApiResponse<Object> response;
+        
+        private Chunk(int startIndex, int endIndex, long bytes, byte[] payload, List<Object> sent,
+                      ApiResponse<Object> response) {
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.bytes = bytes;
+            this.payload = payload;
+            this.sent = sent;
+            this.response = response;
+        }
+    }
+}
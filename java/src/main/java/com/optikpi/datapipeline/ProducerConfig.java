@@ -0,0 +1,60 @@
+package com.optikpi.datapipeline;
+
+/**
+ * Configuration class for EventProducer
+ */
+public class ProducerConfig {
+    private int batchSize = 500;
+    private long maxBatchBytes = 1024 * 1024;
+    private long lingerMs = 100;
+    private long closeTimeoutMs = 30000;
+
+    public ProducerConfig() {}
+
+    // Getters and Setters
+
+    /**
+     * Maximum number of events sent in one request
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Maximum serialized size of one request body in bytes. An event larger than
+     * this limit is still sent, on its own.
+     */
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    public void setMaxBatchBytes(long maxBatchBytes) {
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    /**
+     * Maximum time an event waits in the queue for more events to join its batch
+     */
+    public long getLingerMs() {
+        return lingerMs;
+    }
+
+    public void setLingerMs(long lingerMs) {
+        this.lingerMs = lingerMs;
+    }
+
+    /**
+     * Maximum time close() waits for queued and in-flight batches to complete
+     */
+    public long getCloseTimeoutMs() {
+        return closeTimeoutMs;
+    }
+
+    public void setCloseTimeoutMs(long closeTimeoutMs) {
+        this.closeTimeoutMs = closeTimeoutMs;
+    }
+}
@@ -0,0 +1,32 @@
+package com.optikpi.datapipeline;
+
+/**
+ * Client-side request rate for an endpoint
+ */
+public class RateLimit {
+    private final double requestsPerSecond;
+    private final int burst;
+    
+    /**
+     * @param requestsPerSecond Sustained request rate
+     * @param burst Number of requests that may be sent back to back after an idle period
+     */
+    public RateLimit(double requestsPerSecond, int burst) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+    }
+    
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+    
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,13 @@
+package com.optikpi.datapipeline;
+
+/**
+ * How the body of a successful response is turned into {@link ApiResponse#getData()}
+ */
+public enum ResponseMode {
+    /** Decoded as soon as the response arrives */
+    PARSED,
+    /** Kept as bytes and decoded on the first call to getData() */
+    LAZY,
+    /** Discarded unread; getData() returns null */
+    STATUS_ONLY
+}
@@ -0,0 +1,69 @@
+package com.optikpi.datapipeline;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.optikpi.datapipeline.compression.CompressionCodec;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+/**
+ * Request body that serializes its value directly onto the connection sink
+ *
+ * Nothing beyond the generator and sink buffers is held in memory, and every attempt
+ * serializes the value again.
+ */
+final class StreamingJsonBody extends RequestBody {
+    private final ModelWriters writers;
+    private final Object value;
+    private final long length;
+    private final CompressionCodec codec;
+    private final MediaType contentType;
+    
+    /**
+     * @param length Uncompressed length measured while signing
+     * @param codec Codec to compress with, or null to send the JSON as is
+     */
+    StreamingJsonBody(ModelWriters writers, Object value, long length, CompressionCodec codec, MediaType contentType) {
+        this.writers = writers;
+        this.value = value;
+        this.length = length;
+        this.codec = codec;
+        this.contentType = contentType;
+    }
+    
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+    
+    @Override
+    public long contentLength() {
+        return codec == null ? length : -1;
+    }
+    
+    long uncompressedLength() {
+        return length;
+    }
+    
+    /**
+     * Serializes the value into a byte array, for callers that need the payload itself
+     */
+    byte[] toJson() throws IOException {
+        return writers.writeValueAsBytes(value);
+    }
+    
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+        OutputStream out = sink.outputStream();
+        if (codec == null) {
+            writers.writeValue(out, value);
+            return;
+        }
+        try (OutputStream compressed = codec.compress(out)) {
+            writers.writeValue(compressed, value);
+        }
+    }
+}
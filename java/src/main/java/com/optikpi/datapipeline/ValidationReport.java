@@ -0,0 +1,172 @@
+package com.optikpi.datapipeline;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.model.ErrorCode;
+
+/**
+ * Outcome of a {@link BatchValidator} run
+ *
+ * Lists every failed check by section, item index, field and {@link ErrorCode}. Valid items
+ * take no space, so a report of a clean batch is just its item count.
+ */
+public final class ValidationReport {
+    @JsonProperty("itemCount")
+    private final int itemCount;
+
+    @JsonProperty("errors")
+    private final List<ItemError> errors;
+
+    // Invalid item indices per section name; a validated List uses the null section
+    private final Map<String, BitSet> invalid;
+
+    ValidationReport(int itemCount, List<ItemError> errors) {
+        this.itemCount = itemCount;
+        this.errors = Collections.unmodifiableList(errors);
+        this.invalid = new HashMap<>();
+        for (ItemError error : errors) {
+            invalid.computeIfAbsent(error.section, key -> new BitSet()).set(error.index);
+        }
+    }
+
+    @JsonProperty("valid")
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * @return Number of items with at least one error
+     */
+    @JsonProperty("invalidCount")
+    public int getInvalidCount() {
+        int count = 0;
+        for (BitSet indices : invalid.values()) {
+            count += indices.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * @return Failed checks ordered by section, as in BatchData, then by item index
+     */
+    public List<ItemError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param section BatchData section such as "depositEvents", or null for a validated List
+     */
+    public boolean isInvalid(String section, int index) {
+        BitSet indices = invalid.get(section);
+        return indices != null && indices.get(index);
+    }
+
+    /**
+     * Indices of the invalid items of a section, null if there are none
+     */
+    BitSet getInvalidIndices(String section) {
+        return invalid.get(section);
+    }
+
+    /**
+     * @param items The List this report was created for
+     * @return New list holding only the valid items
+     */
+    public <T> List<T> stripInvalid(List<T> items) {
+        return strip(items, invalid.get(null));
+    }
+
+    /**
+     * @param batchData The BatchData this report was created for
+     * @return New BatchData holding only the valid items of each section
+     */
+    public BatchData stripInvalid(BatchData batchData) {
+        BatchData stripped = new BatchData();
+        for (BatchSection section : BatchSection.ALL) {
+            List<Object> items = section.items.apply(batchData);
+            if (items != null) {
+                section.setItems.accept(stripped, strip(items, invalid.get(section.name)));
+            }
+        }
+        return stripped;
+    }
+
+    private static <T> List<T> strip(List<T> items, BitSet indices) {
+        if (indices == null) {
+            return new ArrayList<>(items);
+        }
+        List<T> valid = new ArrayList<>(items.size() - indices.cardinality());
+        for (int i = 0; i < items.size(); i++) {
+            if (!indices.get(i)) {
+                valid.add(items.get(i));
+            }
+        }
+        return valid;
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport{itemCount=" + itemCount + ", invalidCount=" + getInvalidCount() + ", errors=" + errors + "}";
+    }
+
+    /**
+     * One failed check of one item
+     */
+    public static final class ItemError {
+        @JsonProperty("section")
+        private final String section;
+
+        @JsonProperty("index")
+        private final int index;
+
+        @JsonProperty("field")
+        private final String field;
+
+        @JsonProperty("code")
+        private final ErrorCode code;
+
+        ItemError(String section, int index, String field, ErrorCode code) {
+            this.section = section;
+            this.index = index;
+            this.field = field;
+            this.code = code;
+        }
+
+        /**
+         * @return BatchData section such as "depositEvents", null for a validated List
+         */
+        public String getSection() {
+            return section;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return JSON name of the field, null if the whole item is invalid
+         */
+        public String getField() {
+            return field;
+        }
+
+        public ErrorCode getCode() {
+            return code;
+        }
+
+        @Override
+        public String toString() {
+            return (section != null ? section : "") + "[" + index + "]" + (field != null ? "." + field : "") + " " + code;
+        }
+    }
+}
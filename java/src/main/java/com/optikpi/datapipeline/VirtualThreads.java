@@ -0,0 +1,33 @@
+package com.optikpi.datapipeline;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access to virtual threads, which need Java 21
+ *
+ * This is the Java 11 version used on older runtimes, where virtual threads are not
+ * supported and platform threads stand in for them. The multi-release jar carries a
+ * Java 21 version under META-INF/versions/21.
+ */
+final class VirtualThreads {
+    private VirtualThreads() {}
+    
+    static boolean isSupported() {
+        return false;
+    }
+    
+    /**
+     * @param name Name of the started threads
+     * @return Executor starting a new daemon platform thread for each task
+     */
+    static ExecutorService newThreadPerTaskExecutor(String name) {
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
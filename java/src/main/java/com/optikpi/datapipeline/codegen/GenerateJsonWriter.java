@@ -0,0 +1,18 @@
+package com.optikpi.datapipeline.codegen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which {@link JsonWriterProcessor} generates a reflection-free
+ * {@link ModelJsonWriter}
+ *
+ * Properties are taken from the non-static fields in declaration order, named by their
+ * {@code @JsonProperty} value, read through their public getters and skipped when null.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateJsonWriter {
+}
@@ -0,0 +1,358 @@
+package com.optikpi.datapipeline.codegen;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a {@link ModelJsonWriter} for every class annotated with
+ * {@link GenerateJsonWriter}, plus one {@link JsonWriterRegistry} per package that the
+ * client discovers through {@link java.util.ServiceLoader}
+ *
+ * The generated writers emit exactly what the client's ObjectMapper emits for these
+ * models (declaration order, NON_NULL inclusion) using pre-encoded property names.
+ * Property types other than strings, numbers and booleans are delegated to the
+ * generator's codec.
+ */
+@SupportedAnnotationTypes("com.optikpi.datapipeline.codegen.GenerateJsonWriter")
+public class JsonWriterProcessor extends AbstractProcessor {
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String REGISTRY_NAME = "GeneratedJsonWriters";
+    private static final String WRITER_SUFFIX = "JsonWriter";
+    private static final String GENERATED = "@Generated(\"" + JsonWriterProcessor.class.getName() + "\")";
+
+    private static final Set<String> NUMBER_TYPES = Set.of(
+        "java.math.BigDecimal", "java.math.BigInteger", "java.lang.Integer", "java.lang.Long",
+        "java.lang.Double", "java.lang.Float", "java.lang.Short"
+    );
+
+    // Writers generated in earlier rounds, by package, awaiting their registry
+    private final Map<String, List<String>> pendingWriters = new LinkedHashMap<>();
+    private final Set<String> registries = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<? extends Element> annotated = roundEnv.getElementsAnnotatedWith(GenerateJsonWriter.class);
+        for (Element element : annotated) {
+            if (element.getKind() != ElementKind.CLASS
+                    || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL
+                    || !element.getModifiers().contains(Modifier.PUBLIC)) {
+                error(element, "@GenerateJsonWriter requires a public top-level class");
+                continue;
+            }
+            generateWriter((TypeElement) element);
+        }
+
+        // Registries are generated in the round after their writers so that writers of all
+        // classes of a package are known
+        if (annotated.isEmpty() && !pendingWriters.isEmpty() && !roundEnv.processingOver()) {
+            pendingWriters.forEach(this::generateRegistry);
+            pendingWriters.clear();
+        }
+        if (roundEnv.processingOver() && !registries.isEmpty()) {
+            generateServiceFile();
+        }
+        return true;
+    }
+
+    private void generateWriter(TypeElement type) {
+        List<Property> properties = collectProperties(type);
+        if (properties == null) {
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String modelName = type.getSimpleName().toString();
+        String writerName = modelName + WRITER_SUFFIX;
+
+        try (PrintWriter out = createSource(packageName, writerName, type)) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import java.io.IOException;");
+            out.println();
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+            out.println("import com.fasterxml.jackson.core.SerializableString;");
+            out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+            out.println("import com.optikpi.datapipeline.codegen.ModelJsonWriter;");
+            out.println();
+            out.println("/**");
+            out.println(" * Reflection-free JSON writer for {@link " + modelName + "}");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public final class " + writerName + " implements ModelJsonWriter<" + modelName + "> {");
+            for (Property property : properties) {
+                out.println("    private static final SerializableString " + property.constant
+                        + " = new SerializedString(" + processingEnv.getElementUtils().getConstantExpression(property.name) + ");");
+            }
+            out.println();
+            out.println("    @Override");
+            out.println("    public Class<" + modelName + "> type() {");
+            out.println("        return " + modelName + ".class;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public void write(" + modelName + " value, JsonGenerator gen) throws IOException {");
+            out.println("        gen.writeStartObject(value);");
+            for (int i = 0; i < properties.size(); i++) {
+                writeProperty(out, properties.get(i), "p" + i);
+            }
+            out.println("        gen.writeEndObject();");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(type, "Failed to generate " + writerName + ": " + e.getMessage());
+            return;
+        }
+
+        pendingWriters.computeIfAbsent(packageName, key -> new ArrayList<>()).add(writerName);
+    }
+
+    private void writeProperty(PrintWriter out, Property property, String local) {
+        TypeMirror type = property.type;
+        out.println("        " + type + " " + local + " = value." + property.getter + "();");
+        if (type.getKind().isPrimitive()) {
+            out.println("        gen.writeFieldName(" + property.constant + ");");
+            out.println("        " + writeCall(type, local) + ";");
+            return;
+        }
+        out.println("        if (" + local + " != null) {");
+        out.println("            gen.writeFieldName(" + property.constant + ");");
+        out.println("            " + writeCall(type, local) + ";");
+        out.println("        }");
+    }
+
+    private String writeCall(TypeMirror type, String local) {
+        if (type.getKind() == TypeKind.BOOLEAN) {
+            return "gen.writeBoolean(" + local + ")";
+        }
+        if (type.getKind().isPrimitive() && type.getKind() != TypeKind.CHAR && type.getKind() != TypeKind.BYTE) {
+            return "gen.writeNumber(" + local + ")";
+        }
+        String name = processingEnv.getTypeUtils().erasure(type).toString();
+        if ("java.lang.String".equals(name)) {
+            return "gen.writeString(" + local + ")";
+        }
+        if ("java.lang.Boolean".equals(name)) {
+            return "gen.writeBoolean(" + local + ")";
+        }
+        if (NUMBER_TYPES.contains(name)) {
+            return "gen.writeNumber(" + local + ")";
+        }
+        return "gen.writeObject(" + local + ")";
+    }
+
+    /**
+     * Collects the serialized properties the way Jackson does for these models
+     * @return Properties in declaration order, or null if the class is not supported
+     */
+    private List<Property> collectProperties(TypeElement type) {
+        Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String propertyName = getterProperty(method);
+            if (propertyName != null) {
+                getters.put(propertyName, method);
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        Set<String> constants = new HashSet<>();
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String fieldName = field.getSimpleName().toString();
+            ExecutableElement getter = getters.remove(fieldName);
+            String jsonName = jsonPropertyName(field);
+            if (hasAnnotation(field, JSON_IGNORE) || (getter != null && hasAnnotation(getter, JSON_IGNORE))) {
+                continue;
+            }
+            if (getter == null) {
+                if (jsonName != null) {
+                    error(field, "@JsonProperty field needs a public getter for the generated writer");
+                    valid = false;
+                }
+                continue;
+            }
+            String name = jsonName != null ? jsonName : fieldName;
+            properties.add(new Property(name, constantName(name, constants), getter.getSimpleName().toString(), getter.getReturnType()));
+        }
+
+        for (ExecutableElement getter : getters.values()) {
+            if (!hasAnnotation(getter, JSON_IGNORE)) {
+                error(getter, "Getter without a backing field is not supported by the generated writer; annotate it with @JsonIgnore");
+                valid = false;
+            }
+        }
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED && !((TypeElement) processingEnv.getTypeUtils().asElement(superclass))
+                .getQualifiedName().contentEquals("java.lang.Object")) {
+            error(type, "@GenerateJsonWriter does not support superclasses");
+            valid = false;
+        }
+        return valid ? properties : null;
+    }
+
+    /**
+     * @return Bean property name of a public getter, or null if the method is not one
+     */
+    private String getterProperty(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)
+                || !method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        String name = method.getSimpleName().toString();
+        String suffix;
+        if (name.startsWith("get") && name.length() > 3) {
+            suffix = name.substring(3);
+        } else if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            suffix = name.substring(2);
+        } else {
+            return null;
+        }
+        return Character.toLowerCase(suffix.charAt(0)) + suffix.substring(1);
+    }
+
+    private String jsonPropertyName(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (!((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(JSON_PROPERTY)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : annotation.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    String value = (String) entry.getValue().getValue();
+                    return value.isEmpty() ? null : value;
+                }
+            }
+            return null;
+        }
+        return null;
+    }
+
+    private boolean hasAnnotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors().stream().anyMatch(annotation ->
+                ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName));
+    }
+
+    private static String constantName(String jsonName, Set<String> taken) {
+        StringBuilder constant = new StringBuilder();
+        for (char c : jsonName.toUpperCase(Locale.ROOT).toCharArray()) {
+            constant.append(Character.isLetterOrDigit(c) && c < 128 ? c : '_');
+        }
+        if (constant.length() == 0 || Character.isDigit(constant.charAt(0))) {
+            constant.insert(0, '_');
+        }
+        String base = constant.toString();
+        String name = base;
+        for (int i = 2; !taken.add(name); i++) {
+            name = base + "_" + i;
+        }
+        return name;
+    }
+
+    private void generateRegistry(String packageName, List<String> writerNames) {
+        try (PrintWriter out = createSource(packageName, REGISTRY_NAME)) {
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import java.util.List;");
+            out.println();
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("import com.optikpi.datapipeline.codegen.JsonWriterRegistry;");
+            out.println("import com.optikpi.datapipeline.codegen.ModelJsonWriter;");
+            out.println();
+            out.println("/**");
+            out.println(" * Generated JSON writers of this package");
+            out.println(" */");
+            out.println(GENERATED);
+            out.println("public final class " + REGISTRY_NAME + " implements JsonWriterRegistry {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public List<ModelJsonWriter<?>> writers() {");
+            out.println("        return List.of(");
+            for (int i = 0; i < writerNames.size(); i++) {
+                out.println("            new " + writerNames.get(i) + "()" + (i < writerNames.size() - 1 ? "," : ""));
+            }
+            out.println("        );");
+            out.println("    }");
+            out.println("}");
+            registries.add(packageName + "." + REGISTRY_NAME);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + packageName + "." + REGISTRY_NAME + ": " + e.getMessage());
+        }
+    }
+
+    private void generateServiceFile() {
+        String path = "META-INF/services/" + JsonWriterRegistry.class.getName();
+        try (Writer out = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path).openWriter()) {
+            for (String registry : registries) {
+                out.write(registry);
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + path + ": " + e.getMessage());
+        }
+    }
+
+    private PrintWriter createSource(String packageName, String simpleName, Element... originatingElements) throws IOException {
+        return new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + simpleName, originatingElements).openWriter());
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Property {
+        private final String name;
+        private final String constant;
+        private final String getter;
+        private final TypeMirror type;
+
+        private Property(String name, String constant, String getter, TypeMirror type) {
+            this.name = name;
+            this.constant = constant;
+            this.getter = getter;
+            this.type = type;
+        }
+    }
+}
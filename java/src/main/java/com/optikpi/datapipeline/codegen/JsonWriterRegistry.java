@@ -0,0 +1,12 @@
+package com.optikpi.datapipeline.codegen;
+
+import java.util.List;
+
+/**
+ * Service provider listing generated writers; {@link JsonWriterProcessor} generates one
+ * per package together with its META-INF/services entry
+ */
+public interface JsonWriterRegistry {
+    
+    List<ModelJsonWriter<?>> writers();
+}
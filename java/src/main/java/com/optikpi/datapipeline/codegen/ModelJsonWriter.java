@@ -0,0 +1,22 @@
+package com.optikpi.datapipeline.codegen;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes one model type as a JSON object without Jackson databind introspection
+ * @param <T> Model type
+ */
+public interface ModelJsonWriter<T> {
+    
+    /**
+     * @return Exact class this writer handles
+     */
+    Class<T> type();
+    
+    /**
+     * Writes the value as a JSON object, leaving out null properties
+     */
+    void write(T value, JsonGenerator gen) throws IOException;
+}
@@ -0,0 +1,50 @@
+package com.optikpi.datapipeline.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Request body compression codec
+ *
+ * The SDK signs the uncompressed JSON payload and then compresses it, so the
+ * x-hmac-signature header always covers the identity representation of the body and the
+ * gateway verifies it after decoding the Content-Encoding. Implement this interface to
+ * plug in other encodings such as zstd (e.g. backed by zstd-jni).
+ */
+public interface CompressionCodec {
+    
+    /**
+     * @return Content-Encoding token sent with compressed bodies, e.g. "gzip"
+     */
+    String getEncoding();
+    
+    /**
+     * Compresses a complete request payload
+     * @param data Uncompressed UTF-8 JSON
+     * @return Encoded bytes
+     */
+    byte[] compress(byte[] data) throws IOException;
+    
+    /**
+     * Wraps a stream so that everything written is compressed onto {@code out}. Closing
+     * the returned stream finishes the encoding but leaves {@code out} open.
+     * The default implementation buffers the whole payload and calls {@link #compress(byte[])};
+     * override it to compress incrementally.
+     * @param out Destination of the encoded bytes
+     * @return Stream accepting uncompressed UTF-8 JSON
+     */
+    default OutputStream compress(OutputStream out) throws IOException {
+        return new ByteArrayOutputStream() {
+            private boolean closed;
+            
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    out.write(compress(toByteArray()));
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.optikpi.datapipeline.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression codec
+ */
+public class GzipCodec implements CompressionCodec {
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final int level;
+    
+    public GzipCodec() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+    
+    /**
+     * @param level Deflate level from 1 (fastest) to 9 (smallest), or -1 for the default
+     */
+    public GzipCodec(int level) {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Gzip level must be between 1 and 9, or -1 for the default");
+        }
+        this.level = level;
+    }
+    
+    @Override
+    public String getEncoding() {
+        return "gzip";
+    }
+    
+    @Override
+    public byte[] compress(byte[] data) throws IOException {
+        // Repetitive event arrays typically shrink by an order of magnitude
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 8));
+        try (GZIPOutputStream gzip = new LeveledGzipOutputStream(out, level)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+    
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+        return new LeveledGzipOutputStream(new NonClosingOutputStream(out), level);
+    }
+    
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        private LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+    }
+    
+    /**
+     * Lets GZIPOutputStream.close() write the trailer without closing the destination
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -14,6 +14,7 @@ public class CryptoUtils {
     
     private static final String HMAC_ALGORITHM = "HmacSHA256";
     private static final int KEY_LENGTH = 32;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
     
     /**
      * Derives a cryptographic key using HKDF (HMAC-based Key Derivation Function)
@@ -114,11 +115,13 @@ public class CryptoUtils {
         return result;
     }
     
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder result = new StringBuilder();
-        for (byte b : bytes) {
-            result.append(String.format("%02x", b));
+    static String bytesToHex(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int v = bytes[i] & 0xff;
+            result[i * 2] = HEX_DIGITS[v >>> 4];
+            result[i * 2 + 1] = HEX_DIGITS[v & 0x0f];
         }
-        return result.toString();
+        return new String(result);
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.optikpi.datapipeline.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Request signer holding a pre-derived HKDF signing key
+ *
+ * The key is derived once for a given authToken/accountId/workspaceId triple and each
+ * thread keeps its own initialized {@link Mac}, so signing a request costs a single
+ * HMAC pass over the payload. Create a new signer when the credentials change.
+ */
+public final class HmacSigner {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SIGNING_INFO = "hmac-signing";
+
+    private final String authToken;
+    private final String accountId;
+    private final String workspaceId;
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+
+    public HmacSigner(String authToken, String accountId, String workspaceId) {
+        this.authToken = authToken;
+        this.accountId = accountId;
+        this.workspaceId = workspaceId;
+        this.signingKey = new SecretKeySpec(
+            CryptoUtils.deriveKey(authToken, accountId, workspaceId, SIGNING_INFO),
+            HMAC_ALGORITHM
+        );
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Checks whether this signer was derived from the given credentials
+     */
+    public boolean isDerivedFrom(String authToken, String accountId, String workspaceId) {
+        return this.authToken.equals(authToken)
+            && this.accountId.equals(accountId)
+            && this.workspaceId.equals(workspaceId);
+    }
+
+    /**
+     * Generates the hex encoded HMAC signature of the given data
+     */
+    public String sign(String data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data is required for HMAC signature generation");
+        }
+        return sign(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generates the hex encoded HMAC signature of the given bytes
+     */
+    public String sign(byte[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data is required for HMAC signature generation");
+        }
+        return sign(data, 0, data.length);
+    }
+
+    /**
+     * Generates the hex encoded HMAC signature of a byte range
+     */
+    public String sign(byte[] data, int offset, int length) {
+        Mac mac = macs.get();
+        mac.update(data, offset, length);
+        return CryptoUtils.bytesToHex(mac.doFinal());
+    }
+
+    /**
+     * Creates a stream that signs everything written to it
+     */
+    public SigningOutputStream newStream() {
+        return new SigningOutputStream(newMac());
+    }
+    
+    /**
+     * Creates a fresh Mac initialized with the derived signing key
+     */
+    public Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new RuntimeException("HMAC initialization failed: " + e.getMessage(), e);
+        }
+    }
+}
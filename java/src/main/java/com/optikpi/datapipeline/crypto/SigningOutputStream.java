@@ -0,0 +1,45 @@
+package com.optikpi.datapipeline.crypto;
+
+import java.io.OutputStream;
+
+import javax.crypto.Mac;
+
+/**
+ * Output stream that feeds everything written to it into an HMAC without keeping the
+ * bytes, so a payload can be signed while it is being serialized
+ */
+public final class SigningOutputStream extends OutputStream {
+    private final Mac mac;
+    private long size;
+    
+    SigningOutputStream(Mac mac) {
+        this.mac = mac;
+    }
+    
+    @Override
+    public void write(int b) {
+        mac.update((byte) b);
+        size++;
+    }
+    
+    @Override
+    public void write(byte[] b, int off, int len) {
+        mac.update(b, off, len);
+        size += len;
+    }
+    
+    /**
+     * @return Number of bytes written so far
+     */
+    public long size() {
+        return size;
+    }
+    
+    /**
+     * Completes the HMAC over everything written
+     * @return Hex encoded signature
+     */
+    public String signature() {
+        return CryptoUtils.bytesToHex(mac.doFinal());
+    }
+}
@@ -0,0 +1,90 @@
+package com.optikpi.datapipeline.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory recorder keeping counters and latency histograms per endpoint
+ */
+public class DefaultMetricsRecorder implements MetricsRecorder {
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    
+    @Override
+    public void recordSerialization(String endpoint, long nanos) {
+        endpoint(endpoint).serialization.record(nanos);
+    }
+    
+    @Override
+    public void recordSigning(String endpoint, long nanos) {
+        endpoint(endpoint).signing.record(nanos);
+    }
+    
+    @Override
+    public void recordRequest(String endpoint, long bytes, int events) {
+        Endpoint metrics = endpoint(endpoint);
+        metrics.requests.increment();
+        metrics.bytesSent.add(bytes);
+        metrics.eventsSent.add(events);
+    }
+    
+    @Override
+    public void recordAttempt(String endpoint, int status, long nanos) {
+        endpoint(endpoint).network.record(nanos);
+    }
+    
+    @Override
+    public void recordRetry(String endpoint) {
+        endpoint(endpoint).retries.increment();
+    }
+    
+    @Override
+    public void recordCompletion(String endpoint, int status, long nanos) {
+        Endpoint metrics = endpoint(endpoint);
+        metrics.total.record(nanos);
+        int statusClass = status / 100;
+        if (statusClass >= 2 && statusClass <= 5) {
+            metrics.responses[statusClass - 2].increment();
+        } else {
+            metrics.failures.increment();
+        }
+    }
+    
+    @Override
+    public MetricsSnapshot snapshot() {
+        Map<String, EndpointMetrics> snapshot = new TreeMap<>();
+        endpoints.forEach((endpoint, metrics) -> snapshot.put(endpoint, metrics.snapshot()));
+        return new MetricsSnapshot(snapshot);
+    }
+    
+    /**
+     * Discards everything recorded so far
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+    
+    private Endpoint endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+    }
+    
+    private static final class Endpoint {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder eventsSent = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder[] responses = {new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder()};
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram serialization = new LatencyHistogram();
+        private final LatencyHistogram signing = new LatencyHistogram();
+        private final LatencyHistogram network = new LatencyHistogram();
+        private final LatencyHistogram total = new LatencyHistogram();
+        
+        private EndpointMetrics snapshot() {
+            return new EndpointMetrics(requests.sum(), bytesSent.sum(), eventsSent.sum(), retries.sum(),
+                    responses[0].sum(), responses[1].sum(), responses[2].sum(), responses[3].sum(), failures.sum(),
+                    serialization.snapshot(), signing.snapshot(), network.snapshot(), total.snapshot());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.optikpi.datapipeline.metrics;
+
+/**
+ * Snapshot of the metrics recorded for one endpoint
+ */
+public final class EndpointMetrics {
+    private final long requests;
+    private final long bytesSent;
+    private final long eventsSent;
+    private final long retries;
+    private final long responses2xx;
+    private final long responses3xx;
+    private final long responses4xx;
+    private final long responses5xx;
+    private final long failures;
+    private final LatencySnapshot serialization;
+    private final LatencySnapshot signing;
+    private final LatencySnapshot network;
+    private final LatencySnapshot total;
+    
+    EndpointMetrics(long requests, long bytesSent, long eventsSent, long retries,
+                    long responses2xx, long responses3xx, long responses4xx, long responses5xx, long failures,
+                    LatencySnapshot serialization, LatencySnapshot signing, LatencySnapshot network, LatencySnapshot total) {
+        this.requests = requests;
+        this.bytesSent = bytesSent;
+        this.eventsSent = eventsSent;
+        this.retries = retries;
+        this.responses2xx = responses2xx;
+        this.responses3xx = responses3xx;
+        this.responses4xx = responses4xx;
+        this.responses5xx = responses5xx;
+        this.failures = failures;
+        this.serialization = serialization;
+        this.signing = signing;
+        this.network = network;
+        this.total = total;
+    }
+    
+    /**
+     * Requests sent, not counting retries
+     */
+    public long getRequests() {
+        return requests;
+    }
+    
+    /**
+     * Request body bytes of first attempts, after compression
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+    
+    public long getEventsSent() {
+        return eventsSent;
+    }
+    
+    public long getRetries() {
+        return retries;
+    }
+    
+    /**
+     * Completed requests by status class of their final response
+     */
+    public long getResponses2xx() {
+        return responses2xx;
+    }
+    
+    public long getResponses3xx() {
+        return responses3xx;
+    }
+    
+    public long getResponses4xx() {
+        return responses4xx;
+    }
+    
+    public long getResponses5xx() {
+        return responses5xx;
+    }
+    
+    /**
+     * Completed requests that never received a response
+     */
+    public long getFailures() {
+        return failures;
+    }
+    
+    public LatencySnapshot getSerialization() {
+        return serialization;
+    }
+    
+    public LatencySnapshot getSigning() {
+        return signing;
+    }
+    
+    /**
+     * Per attempt, including time queued in the OkHttp dispatcher
+     */
+    public LatencySnapshot getNetwork() {
+        return network;
+    }
+    
+    /**
+     * Per request, from serialization until the final response including retries
+     */
+    public LatencySnapshot getTotal() {
+        return total;
+    }
+    
+    @Override
+    public String toString() {
+        return "EndpointMetrics{" +
+                "requests=" + requests +
+                ", bytesSent=" + bytesSent +
+                ", eventsSent=" + eventsSent +
+                ", retries=" + retries +
+                ", 2xx=" + responses2xx +
+                ", 3xx=" + responses3xx +
+                ", 4xx=" + responses4xx +
+                ", 5xx=" + responses5xx +
+                ", failures=" + failures +
+                ", network=" + network +
+                ", total=" + total +
+                '}';
+    }
+}
@@ -0,0 +1,89 @@
+package com.optikpi.datapipeline.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable copy of a {@link LatencyHistogram}; values are in nanoseconds
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+    
+    LatencySnapshot(long[] counts, long count, long sum, long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+    
+    public long getCount() {
+        return count;
+    }
+    
+    public long getMax() {
+        return max;
+    }
+    
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+    
+    /**
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Upper bound of the bucket holding the percentile, capped at the maximum
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(i), max);
+            }
+        }
+        return max;
+    }
+    
+    public long getP50() {
+        return getValueAtPercentile(50);
+    }
+    
+    public long getP90() {
+        return getValueAtPercentile(90);
+    }
+    
+    public long getP99() {
+        return getValueAtPercentile(99);
+    }
+    
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+    
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+                "count=" + count +
+                ", meanMs=" + String.format("%.3f", getMean() / TimeUnit.MILLISECONDS.toNanos(1)) +
+                ", p50Ms=" + millis(getP50()) +
+                ", p99Ms=" + millis(getP99()) +
+                ", maxMs=" + millis(max) +
+                '}';
+    }
+    
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.optikpi.datapipeline.metrics;
+
+/**
+ * Receives per-endpoint measurements from the client
+ *
+ * Implementations must be thread-safe and must not block: they are called from caller
+ * threads and OkHttp callback threads. All durations are in nanoseconds. Every method
+ * defaults to a no-op, so bridges to other metrics libraries only override what they
+ * export. {@link DefaultMetricsRecorder} is used when none is configured.
+ */
+public interface MetricsRecorder {
+    
+    /**
+     * Discards every measurement
+     */
+    MetricsRecorder NOOP = new MetricsRecorder() {};
+    
+    /**
+     * Time spent serializing a request payload
+     */
+    default void recordSerialization(String endpoint, long nanos) {}
+    
+    /**
+     * Time spent computing the HMAC signature of a request payload
+     */
+    default void recordSigning(String endpoint, long nanos) {}
+    
+    /**
+     * A request about to be sent for the first time
+     * @param bytes Request body size as sent, after compression; streamed compressed bodies
+     *              report their uncompressed size
+     * @param events Number of events in the payload, 0 if unknown
+     */
+    default void recordRequest(String endpoint, long bytes, int events) {}
+    
+    /**
+     * One HTTP attempt, from enqueueing the call until its response or failure
+     * @param status HTTP status, or 0 if no response was received
+     */
+    default void recordAttempt(String endpoint, int status, long nanos) {}
+    
+    /**
+     * A failed or throttled attempt that is retried
+     */
+    default void recordRetry(String endpoint) {}
+    
+    /**
+     * Final outcome of a request after all retries
+     * @param status HTTP status of the last attempt, or 0 if no response was received
+     * @param nanos Time from the start of serialization until completion
+     */
+    default void recordCompletion(String endpoint, int status, long nanos) {}
+    
+    /**
+     * @return Point-in-time view of the recorded metrics, empty if the recorder does not keep any
+     */
+    default MetricsSnapshot snapshot() {
+        return MetricsSnapshot.EMPTY;
+    }
+}
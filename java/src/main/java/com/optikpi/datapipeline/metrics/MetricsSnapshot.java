@@ -0,0 +1,33 @@
+package com.optikpi.datapipeline.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time metrics of all endpoints, keyed by endpoint path
+ */
+public final class MetricsSnapshot {
+    public static final MetricsSnapshot EMPTY = new MetricsSnapshot(Collections.emptyMap());
+    
+    private final Map<String, EndpointMetrics> endpoints;
+    
+    public MetricsSnapshot(Map<String, EndpointMetrics> endpoints) {
+        this.endpoints = Collections.unmodifiableMap(endpoints);
+    }
+    
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return endpoints;
+    }
+    
+    /**
+     * @return Metrics of the endpoint, or null if nothing was sent to it
+     */
+    public EndpointMetrics getEndpoint(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+    
+    @Override
+    public String toString() {
+        return "MetricsSnapshot" + endpoints;
+    }
+}
@@ -1,18 +1,22 @@
 package com.optikpi.datapipeline.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Account Event Model
  * Represents account-related events for the Data Pipeline API
  */
-public class AccountEvent {
+@GenerateJsonWriter
+public class AccountEvent implements IdentifiedEvent, Validatable {
+    private static final Set<String> STATUSES = Set.of("verified", "pending", "failed", "completed");
     
     @NotBlank(message = "account_id is required")
     @JsonProperty("account_id")
@@ -76,69 +80,72 @@ public class AccountEvent {
      * Validates the account event data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
-        if (eventName == null || eventName.trim().isEmpty()) {
-            errors.add("event_name is required");
+        if (Validators.isBlank(eventName)) {
+            errors = Validators.addError(errors, "event_name", ErrorCode.REQUIRED, "event_name is required");
         }
-        if (eventId == null || eventId.trim().isEmpty()) {
-            errors.add("event_id is required");
+        if (Validators.isBlank(eventId)) {
+            errors = Validators.addError(errors, "event_id", ErrorCode.REQUIRED, "event_id is required");
         }
-        if (eventTime == null || eventTime.trim().isEmpty()) {
-            errors.add("event_time is required");
+        if (Validators.isBlank(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.REQUIRED, "event_time is required");
         }
         
         // Event category validation
         if (eventCategory != null && !"Account".equals(eventCategory)) {
-            errors.add("event_category must be \"Account\" for account events");
+            errors = Validators.addError(errors, "event_category", ErrorCode.INVALID_VALUE, "event_category must be \"Account\" for account events");
         }
         
         // Status validation
         if (status != null && !isValidStatus(status)) {
-            errors.add("status must be one of: verified, pending, failed, completed");
+            errors = Validators.addError(errors, "status", ErrorCode.INVALID_VALUE, "status must be one of: verified, pending, failed, completed");
         }
         
         // Device validation
         if (device != null && !isValidDevice(device)) {
-            errors.add("device must be one of: desktop, mobile, tablet, app");
+            errors = Validators.addError(errors, "device", ErrorCode.INVALID_VALUE, "device must be one of: desktop, mobile, tablet, app");
         }
         
         // Date format validation
-        if (eventTime != null && !isValidDateTime(eventTime)) {
-            errors.add("event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (eventTime != null && !Validators.isIsoInstant(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.INVALID_FORMAT, "event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
+        return errors;
     }
     
     private boolean isValidStatus(String status) {
-        return "verified".equals(status) || "pending".equals(status) || 
-               "failed".equals(status) || "completed".equals(status);
+        return STATUSES.contains(status);
     }
     
     private boolean isValidDevice(String device) {
-        return "desktop".equals(device) || "mobile".equals(device) || 
-               "tablet".equals(device) || "app".equals(device);
-    }
-    
-    private boolean isValidDateTime(String dateTime) {
-        try {
-            Instant.parse(dateTime);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return Validators.DEVICES.contains(device);
     }
     
     // Getters and Setters
@@ -163,6 +170,16 @@ public class AccountEvent {
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     
+    /**
+     * Sets event_time from an instant, formatted as UTC ISO 8601
+     */
+    public void setEventTimeInstant(Instant eventTime) { this.eventTime = IsoTimestamps.format(eventTime); }
+    
+    /**
+     * Sets event_time from milliseconds since the epoch, formatted as UTC ISO 8601
+     */
+    public void setEventTimeEpochMillis(long eventTime) { this.eventTime = IsoTimestamps.formatEpochMillis(eventTime); }
+    
     public String getDevice() { return device; }
     public void setDevice(String device) { this.device = device; }
     
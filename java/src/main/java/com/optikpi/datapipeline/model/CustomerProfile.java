@@ -1,13 +1,12 @@
 package com.optikpi.datapipeline.model;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -18,7 +17,11 @@ import jakarta.validation.constraints.Pattern;
  * Represents a customer profile for the Data Pipeline API
  * Updated to match JavaScript model structure
  */
-public class CustomerProfile {
+@GenerateJsonWriter
+public class CustomerProfile implements Validatable {
+    private static final Set<String> GENDERS = Set.of("Male", "Female", "Other");
+    private static final Set<String> ACCOUNT_STATUSES = Set.of("Active", "Inactive", "Suspended", "Closed");
+    private static final Set<String> VIP_STATUSES = Set.of("Regular", "Silver", "Gold", "Platinum", "Diamond");
     
     @NotBlank(message = "account_id is required")
     @JsonProperty("account_id")
@@ -207,7 +210,7 @@ public class CustomerProfile {
     private String windowsPushToken;
 
     @JsonProperty("mac_dmg_push_token")
-    private String macdmgPushToken;
+    private String macDmgPushToken;
     
     public CustomerProfile() {}
     
@@ -223,77 +226,84 @@ public class CustomerProfile {
      * Validates the customer profile data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
-        if (username == null || username.trim().isEmpty()) {
-            errors.add("username is required");
+        if (Validators.isBlank(username)) {
+            errors = Validators.addError(errors, "username", ErrorCode.REQUIRED, "username is required");
         }
-        if (email == null || email.trim().isEmpty()) {
-            errors.add("email is required");
+        if (Validators.isBlank(email)) {
+            errors = Validators.addError(errors, "email", ErrorCode.REQUIRED, "email is required");
         }
         
         // Email format validation
         if (email != null && !isValidEmail(email)) {
-            errors.add("email must be a valid email address");
+            errors = Validators.addError(errors, "email", ErrorCode.INVALID_FORMAT, "email must be a valid email address");
         }
         
         // Date format validation
         if (dateOfBirth != null && !isValidDate(dateOfBirth)) {
-            errors.add("date_of_birth must be in YYYY-MM-DD format");
+            errors = Validators.addError(errors, "date_of_birth", ErrorCode.INVALID_FORMAT, "date_of_birth must be in YYYY-MM-DD format");
         }
         
         // Enum validations
         if (gender != null && !isValidGender(gender)) {
-            errors.add("gender must be one of: Male, Female, Other");
+            errors = Validators.addError(errors, "gender", ErrorCode.INVALID_VALUE, "gender must be one of: Male, Female, Other");
         }
         
         if (accountStatus != null && !isValidAccountStatus(accountStatus)) {
-            errors.add("account_status must be one of: Active, Inactive, Suspended, Closed");
+            errors = Validators.addError(errors, "account_status", ErrorCode.INVALID_VALUE, "account_status must be one of: Active, Inactive, Suspended, Closed");
         }
         
         if (vipStatus != null && !isValidVipStatus(vipStatus)) {
-            errors.add("vip_status must be one of: Regular, Silver, Gold, Platinum, Diamond");
+            errors = Validators.addError(errors, "vip_status", ErrorCode.INVALID_VALUE, "vip_status must be one of: Regular, Silver, Gold, Platinum, Diamond");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
+        return errors;
     }
     
     private boolean isValidEmail(String email) {
-        return email.matches("^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$");
+        return Validators.isEmail(email);
     }
     
     private boolean isValidDate(String date) {
-        try {
-            LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return Validators.isIsoDate(date);
     }
     
     private boolean isValidGender(String gender) {
-        return "Male".equals(gender) || "Female".equals(gender) || "Other".equals(gender);
+        return GENDERS.contains(gender);
     }
     
     private boolean isValidAccountStatus(String status) {
-        return "Active".equals(status) || "Inactive".equals(status) || 
-               "Suspended".equals(status) || "Closed".equals(status);
+        return ACCOUNT_STATUSES.contains(status);
     }
     
     private boolean isValidVipStatus(String status) {
-        return "Regular".equals(status) || "Silver".equals(status) || "Gold".equals(status) || 
-               "Platinum".equals(status) || "Diamond".equals(status);
+        return VIP_STATUSES.contains(status);
     }
     
     // Getters and Setters
@@ -456,6 +466,6 @@ public class CustomerProfile {
     public String getWindowsPushToken() { return windowsPushToken; }
     public void setWindowsPushToken(String windowsPushToken) { this.windowsPushToken = windowsPushToken; }
 
-    public String getMacDmgPushToken() { return macdmgPushToken; }
-    public void setMacDmgPushToken(String macdmgPushToken) { this.macdmgPushToken = macdmgPushToken; }
+    public String getMacDmgPushToken() { return macDmgPushToken; }
+    public void setMacDmgPushToken(String macDmgPushToken) { this.macDmgPushToken = macDmgPushToken; }
 }
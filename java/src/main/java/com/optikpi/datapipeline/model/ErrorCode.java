@@ -0,0 +1,17 @@
+package com.optikpi.datapipeline.model;
+
+/**
+ * Kind of validation failure of a single field
+ */
+public enum ErrorCode {
+    /** Required field is missing or blank */
+    REQUIRED,
+    /** Value does not have the expected format, such as ISO 8601 or an email address */
+    INVALID_FORMAT,
+    /** Value is not one of the allowed values */
+    INVALID_VALUE,
+    /** Number is outside the allowed range */
+    OUT_OF_RANGE,
+    /** Item is null or cannot be validated */
+    INVALID_ITEM
+}
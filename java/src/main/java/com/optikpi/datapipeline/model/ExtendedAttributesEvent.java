@@ -1,6 +1,5 @@
 package com.optikpi.datapipeline.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -8,8 +7,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
-public class ExtendedAttributesEvent {
+@GenerateJsonWriter
+public class ExtendedAttributesEvent implements Validatable {
 
     @JsonProperty("account_id")
     private String accountId;
@@ -32,30 +33,44 @@ public class ExtendedAttributesEvent {
     public ExtendedAttributesEvent() {}
     
     // Validation
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
 
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
         
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
         
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
         
-        if (listName == null || listName.trim().isEmpty()) {
-            errors.add("list_name is required");
+        if (Validators.isBlank(listName)) {
+            errors = Validators.addError(errors, "list_name", ErrorCode.REQUIRED, "list_name is required");
         }
         
-        if (extData == null || extData.trim().isEmpty()) {
-            errors.add("ext_data is required");
+        if (Validators.isBlank(extData)) {
+            errors = Validators.addError(errors, "ext_data", ErrorCode.REQUIRED, "ext_data is required");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
+        return errors;
     }
 
      public String getAccountId() {
@@ -2,10 +2,11 @@ package com.optikpi.datapipeline.model;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
 import jakarta.validation.constraints.NotBlank;
 
@@ -13,7 +14,8 @@ import jakarta.validation.constraints.NotBlank;
  * Gaming Activity Event Model
  * Represents gaming activity events for the Data Pipeline API
  */
-public class GamingActivityEvent {
+@GenerateJsonWriter
+public class GamingActivityEvent implements IdentifiedEvent, Validatable {
     
     @NotBlank(message = "account_id is required")
     @JsonProperty("account_id")
@@ -249,54 +251,58 @@ public class GamingActivityEvent {
      * Validates the gaming activity event data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
-        if (eventName == null || eventName.trim().isEmpty()) {
-            errors.add("event_name is required");
+        if (Validators.isBlank(eventName)) {
+            errors = Validators.addError(errors, "event_name", ErrorCode.REQUIRED, "event_name is required");
         }
-        if (eventId == null || eventId.trim().isEmpty()) {
-            errors.add("event_id is required");
+        if (Validators.isBlank(eventId)) {
+            errors = Validators.addError(errors, "event_id", ErrorCode.REQUIRED, "event_id is required");
         }
-        if (eventTime == null || eventTime.trim().isEmpty()) {
-            errors.add("event_time is required");
+        if (Validators.isBlank(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.REQUIRED, "event_time is required");
         }
         
         // Event category validation - CORRECTED
         if (eventCategory != null && !"Gaming Activity".equals(eventCategory)) {
-            errors.add("event_category must be \"Gaming Activity\" for gaming activity events");
+            errors = Validators.addError(errors, "event_category", ErrorCode.INVALID_VALUE, "event_category must be \"Gaming Activity\" for gaming activity events");
         }
         
         // Date format validation
-        if (eventTime != null && !isValidDateTime(eventTime)) {
-            errors.add("event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (eventTime != null && !Validators.isIsoInstant(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.INVALID_FORMAT, "event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
+        return errors;
     }
     
     private boolean isValidDevice(String device) {
-        return "desktop".equals(device) || "mobile".equals(device) || 
-               "tablet".equals(device) || "app".equals(device);
-    }
-    
-    private boolean isValidDateTime(String dateTime) {
-        try {
-            Instant.parse(dateTime);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return Validators.DEVICES.contains(device);
     }
     
     // Getters and Setters
@@ -321,6 +327,16 @@ public class GamingActivityEvent {
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     
+    /**
+     * Sets event_time from an instant, formatted as UTC ISO 8601
+     */
+    public void setEventTimeInstant(Instant eventTime) { this.eventTime = IsoTimestamps.format(eventTime); }
+    
+    /**
+     * Sets event_time from milliseconds since the epoch, formatted as UTC ISO 8601
+     */
+    public void setEventTimeEpochMillis(long eventTime) { this.eventTime = IsoTimestamps.formatEpochMillis(eventTime); }
+    
     public String getGameId() { return gameId; }
     public void setGameId(String gameId) { this.gameId = gameId; }
     
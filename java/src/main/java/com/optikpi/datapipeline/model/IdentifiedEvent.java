@@ -0,0 +1,9 @@
+package com.optikpi.datapipeline.model;
+
+/**
+ * Event carrying a caller-assigned event_id that identifies it across resends
+ */
+public interface IdentifiedEvent {
+    
+    String getEventId();
+}
@@ -0,0 +1,202 @@
+package com.optikpi.datapipeline.model;
+
+import java.time.Instant;
+
+/**
+ * Allocation-free checking and fast formatting of ISO 8601 instants
+ *
+ * {@link #isValid(String)} accepts what {@link Instant#parse} accepts for years 0000-9999:
+ * {@code YYYY-MM-DDTHH:mm:ss}, an optional fraction of up to nine digits, and either
+ * {@code Z} or an offset {@code ±HH:MM[:SS]} of at most 18 hours. 'T' and 'Z' may be lower
+ * case, {@code 24:00:00} stands for midnight of the next day and {@code 23:59:60} for a
+ * leap second. Values are scanned in place, so invalid input costs no exception.
+ */
+final class IsoTimestamps {
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private IsoTimestamps() {}
+
+    static boolean isValid(String value) {
+        int length = value.length();
+        // Shortest form: YYYY-MM-DDTHH:mm:ssZ
+        if (length < 20) {
+            return false;
+        }
+
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || value.charAt(4) != '-' || value.charAt(7) != '-' || !isChar(value.charAt(10), 'T')
+                || value.charAt(13) != ':' || value.charAt(16) != ':' || hour < 0 || minute < 0 || second < 0) {
+            return false;
+        }
+
+        int position = 19;
+        boolean zeroFraction = true;
+        if (value.charAt(position) == '.') {
+            int start = ++position;
+            while (position < length && isDigit(value.charAt(position))) {
+                zeroFraction &= value.charAt(position) == '0';
+                position++;
+            }
+            if (position - start > 9) {
+                return false;
+            }
+        }
+
+        boolean validTime = (hour < 24 && minute < 60 && second < 60)
+                || (hour == 23 && minute == 59 && second == 60)
+                || (hour == 24 && minute == 0 && second == 0 && zeroFraction);
+        return validTime && isOffset(value, position);
+    }
+
+    /**
+     * Same as parsing with {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE} for years
+     * 0000-9999: {@code YYYY-MM-DD} naming a day that exists
+     */
+    static boolean isValidDate(String value) {
+        if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return false;
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        return year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month);
+    }
+
+    /**
+     * Checks that the value ends with 'Z' or ±HH:MM[:SS] at the given position
+     */
+    private static boolean isOffset(String value, int position) {
+        int length = value.length();
+        if (position >= length) {
+            return false;
+        }
+        char sign = value.charAt(position);
+        if (isChar(sign, 'Z')) {
+            return position + 1 == length;
+        }
+        if ((sign != '+' && sign != '-') || length - position < 6 || value.charAt(position + 3) != ':') {
+            return false;
+        }
+
+        int hours = digits(value, position + 1, 2);
+        int minutes = digits(value, position + 4, 2);
+        int seconds = 0;
+        if (length - position == 9 && value.charAt(position + 6) == ':') {
+            seconds = digits(value, position + 7, 2);
+        } else if (length - position != 6) {
+            return false;
+        }
+        return hours >= 0 && minutes >= 0 && minutes < 60 && seconds >= 0 && seconds < 60
+                && hours * 3600 + minutes * 60 + seconds <= MAX_OFFSET_SECONDS;
+    }
+
+    /**
+     * @return The value of count ASCII digits starting at offset, -1 if any is not a digit
+     */
+    private static int digits(String value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isChar(char c, char upper) {
+        return c == upper || c == Character.toLowerCase(upper);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Formats like {@link Instant#toString()}: UTC with 0, 3, 6 or 9 fraction digits
+     */
+    static String format(Instant instant) {
+        return format(instant.getEpochSecond(), instant.getNano());
+    }
+
+    static String formatEpochMillis(long epochMillis) {
+        return format(Math.floorDiv(epochMillis, 1000), (int) (Math.floorMod(epochMillis, 1000L) * 1_000_000L));
+    }
+
+    private static String format(long epochSecond, int nanos) {
+        long days = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        // Civil date from days since 1970-01-01, counted in 400 year eras starting in March
+        long shifted = days + 719468;
+        long era = Math.floorDiv(shifted, 146097);
+        int dayOfEra = (int) (shifted - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+        int month = monthIndex < 10 ? monthIndex + 3 : monthIndex - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return Instant.ofEpochSecond(epochSecond, nanos).toString();
+        }
+
+        int fractionDigits = nanos == 0 ? 0 : nanos % 1_000_000 == 0 ? 3 : nanos % 1000 == 0 ? 6 : 9;
+        char[] chars = new char[20 + (fractionDigits > 0 ? fractionDigits + 1 : 0)];
+        put(chars, 0, (int) year, 4);
+        chars[4] = '-';
+        put(chars, 5, month, 2);
+        chars[7] = '-';
+        put(chars, 8, day, 2);
+        chars[10] = 'T';
+        put(chars, 11, secondOfDay / 3600, 2);
+        chars[13] = ':';
+        put(chars, 14, secondOfDay / 60 % 60, 2);
+        chars[16] = ':';
+        put(chars, 17, secondOfDay % 60, 2);
+        if (fractionDigits > 0) {
+            chars[19] = '.';
+            put(chars, 20, nanos / pow10(9 - fractionDigits), fractionDigits);
+        }
+        chars[chars.length - 1] = 'Z';
+        return new String(chars);
+    }
+
+    private static void put(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
@@ -1,10 +1,12 @@
 package com.optikpi.datapipeline.model;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
 import jakarta.validation.constraints.NotBlank;
 
@@ -12,7 +14,10 @@ import jakarta.validation.constraints.NotBlank;
  * Refer Friend Event Model
  * Represents refer friend events for the Data Pipeline API
  */
-public class ReferFriendEvent {
+@GenerateJsonWriter
+public class ReferFriendEvent implements IdentifiedEvent, Validatable {
+    private static final Set<String> REWARD_TYPES = Set.of("bonus", "cash", "points", "free_spins", "other");
+    private static final Set<String> CLAIMED_STATUSES = Set.of("pending", "claimed", "expired", "cancelled");
     
     @NotBlank(message = "account_id is required")
     @JsonProperty("account_id")
@@ -77,79 +82,81 @@ public class ReferFriendEvent {
      * Validates the refer friend event data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
-        if (eventName == null || eventName.trim().isEmpty()) {
-            errors.add("event_name is required");
+        if (Validators.isBlank(eventName)) {
+            errors = Validators.addError(errors, "event_name", ErrorCode.REQUIRED, "event_name is required");
         }
-        if (eventId == null || eventId.trim().isEmpty()) {
-            errors.add("event_id is required");
+        if (Validators.isBlank(eventId)) {
+            errors = Validators.addError(errors, "event_id", ErrorCode.REQUIRED, "event_id is required");
         }
-        if (eventTime == null || eventTime.trim().isEmpty()) {
-            errors.add("event_time is required");
+        if (Validators.isBlank(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.REQUIRED, "event_time is required");
         }
         
         // Event category validation
         if (eventCategory != null && !"Refer Friend".equals(eventCategory)) {
-            errors.add("event_category must be \"Refer Friend\" for refer friend events");
+            errors = Validators.addError(errors, "event_category", ErrorCode.INVALID_VALUE, "event_category must be \"Refer Friend\" for refer friend events");
         }
         
         // Date format validation
-        if (eventTime != null && !isValidDateTime(eventTime)) {
-            errors.add("event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (eventTime != null && !Validators.isIsoInstant(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.INVALID_FORMAT, "event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
-        if (refereeRegistrationDate != null && !isValidDateTime(refereeRegistrationDate)) {
-            errors.add("referee_registration_date must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (refereeRegistrationDate != null && !Validators.isIsoInstant(refereeRegistrationDate)) {
+            errors = Validators.addError(errors, "referee_registration_date", ErrorCode.INVALID_FORMAT, "referee_registration_date must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
         // Reward type validation
         if (rewardType != null && !isValidRewardType(rewardType)) {
-            errors.add("reward_type must be one of: bonus, cash, points, free_spins, other");
+            errors = Validators.addError(errors, "reward_type", ErrorCode.INVALID_VALUE, "reward_type must be one of: bonus, cash, points, free_spins, other");
         }
         
         // Reward claimed status validation
         if (rewardClaimedStatus != null && !isValidClaimedStatus(rewardClaimedStatus)) {
-            errors.add("reward_claimed_status must be one of: pending, claimed, expired, cancelled");
+            errors = Validators.addError(errors, "reward_claimed_status", ErrorCode.INVALID_VALUE, "reward_claimed_status must be one of: pending, claimed, expired, cancelled");
         }
         
         // First deposit validation
         if (refereeFirstDeposit != null && refereeFirstDeposit < 0) {
-            errors.add("referee_first_deposit must be a non-negative number");
+            errors = Validators.addError(errors, "referee_first_deposit", ErrorCode.OUT_OF_RANGE, "referee_first_deposit must be a non-negative number");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
-    }
-    
-    private boolean isValidDateTime(String dateTime) {
-        try {
-            Instant.parse(dateTime);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return errors;
     }
     
     private boolean isValidRewardType(String rewardType) {
-        return "bonus".equals(rewardType) || "cash".equals(rewardType) || 
-               "points".equals(rewardType) || "free_spins".equals(rewardType) || 
-               "other".equals(rewardType);
+        return REWARD_TYPES.contains(rewardType);
     }
     
     private boolean isValidClaimedStatus(String status) {
-        return "pending".equals(status) || "claimed".equals(status) || 
-               "expired".equals(status) || "cancelled".equals(status);
+        return CLAIMED_STATUSES.contains(status);
     }
     
     // Getters and Setters
@@ -174,6 +181,16 @@ public class ReferFriendEvent {
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     
+    /**
+     * Sets event_time from an instant, formatted as UTC ISO 8601
+     */
+    public void setEventTimeInstant(Instant eventTime) { this.eventTime = IsoTimestamps.format(eventTime); }
+    
+    /**
+     * Sets event_time from milliseconds since the epoch, formatted as UTC ISO 8601
+     */
+    public void setEventTimeEpochMillis(long eventTime) { this.eventTime = IsoTimestamps.formatEpochMillis(eventTime); }
+    
     public String getReferralCodeUsed() { return referralCodeUsed; }
     public void setReferralCodeUsed(String referralCodeUsed) { this.referralCodeUsed = referralCodeUsed; }
     
@@ -1,16 +1,18 @@
 package com.optikpi.datapipeline.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * System Event Model
  * Represents system-related events
  */
-public class SystemEvent {
+@GenerateJsonWriter
+public class SystemEvent implements IdentifiedEvent, Validatable {
     
     @JsonProperty("account_id")
     private String accountId;
@@ -48,49 +50,54 @@ public class SystemEvent {
      * Validates the system event data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (eventCategory == null || eventCategory.trim().isEmpty()) {
-            errors.add("event_category is required");
+        if (Validators.isBlank(eventCategory)) {
+            errors = Validators.addError(errors, "event_category", ErrorCode.REQUIRED, "event_category is required");
         } else if (!"SystemEvent".equals(eventCategory)) {
-            errors.add("event_category must be \"SystemEvent\" for system events");
+            errors = Validators.addError(errors, "event_category", ErrorCode.INVALID_VALUE, "event_category must be \"SystemEvent\" for system events");
         }
-        if (eventName == null || eventName.trim().isEmpty()) {
-            errors.add("event_name is required");
+        if (Validators.isBlank(eventName)) {
+            errors = Validators.addError(errors, "event_name", ErrorCode.REQUIRED, "event_name is required");
         }
-        if (eventId == null || eventId.trim().isEmpty()) {
-            errors.add("event_id is required");
+        if (Validators.isBlank(eventId)) {
+            errors = Validators.addError(errors, "event_id", ErrorCode.REQUIRED, "event_id is required");
         }
-        if (eventTime == null || eventTime.trim().isEmpty()) {
-            errors.add("event_time is required");
+        if (Validators.isBlank(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.REQUIRED, "event_time is required");
         }
         if (eventData == null) {
-            errors.add("event_data is required");
+            errors = Validators.addError(errors, "event_data", ErrorCode.REQUIRED, "event_data is required");
         }
         
         // Date format validation
-        if (eventTime != null && !isValidDateTime(eventTime)) {
-            errors.add("event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (eventTime != null && !Validators.isIsoInstant(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.INVALID_FORMAT, "event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
-    }
-    
-    private boolean isValidDateTime(String dateTime) {
-        try {
-            Instant.parse(dateTime);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return errors;
     }
     
     // Getters and Setters
@@ -112,6 +119,16 @@ public class SystemEvent {
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     
+    /**
+     * Sets event_time from an instant, formatted as UTC ISO 8601
+     */
+    public void setEventTimeInstant(Instant eventTime) { this.eventTime = IsoTimestamps.format(eventTime); }
+    
+    /**
+     * Sets event_time from milliseconds since the epoch, formatted as UTC ISO 8601
+     */
+    public void setEventTimeEpochMillis(long eventTime) { this.eventTime = IsoTimestamps.formatEpochMillis(eventTime); }
+    
     public Object getEventData() { return eventData; }
     public void setEventData(Object eventData) { this.eventData = eventData; }
 }
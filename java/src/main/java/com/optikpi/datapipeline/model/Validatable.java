@@ -0,0 +1,20 @@
+package com.optikpi.datapipeline.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Model that checks its own fields before it is sent
+ */
+public interface Validatable {
+    
+    ValidationResult validate();
+    
+    /**
+     * Runs the same checks as {@link #validate()}; the models answer without allocating
+     * when they are valid
+     */
+    @JsonIgnore
+    default boolean isValid() {
+        return validate().isValid();
+    }
+}
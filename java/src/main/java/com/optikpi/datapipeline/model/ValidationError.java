@@ -0,0 +1,36 @@
+package com.optikpi.datapipeline.model;
+
+/**
+ * One failed check of a model field
+ */
+public final class ValidationError {
+    private final String field;
+    private final ErrorCode code;
+    private final String message;
+    
+    public ValidationError(String field, ErrorCode code, String message) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+    }
+    
+    /**
+     * @return JSON name of the field, such as event_time
+     */
+    public String getField() {
+        return field;
+    }
+    
+    public ErrorCode getCode() {
+        return code;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    @Override
+    public String toString() {
+        return field + ": " + code;
+    }
+}
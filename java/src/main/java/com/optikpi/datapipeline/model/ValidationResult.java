@@ -1,5 +1,7 @@
 package com.optikpi.datapipeline.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -8,6 +10,7 @@ import java.util.List;
 public class ValidationResult {
     private boolean isValid;
     private List<String> errors;
+    private List<ValidationError> violations;
     
     public ValidationResult() {}
     
@@ -31,4 +34,33 @@ public class ValidationResult {
     public void setErrors(List<String> errors) {
         this.errors = errors;
     }
+    
+    /**
+     * @return Field and error code of each failed check, in the order of {@link #getErrors()}
+     */
+    public List<ValidationError> getViolations() {
+        return violations != null ? violations : Collections.emptyList();
+    }
+    
+    public void setViolations(List<ValidationError> violations) {
+        this.violations = violations;
+    }
+    
+    /**
+     * @param violations Failed checks, null if there were none
+     * @return A new result, valid with an empty error list when there are no failed checks.
+     *         Use {@link Validatable#isValid()} to check a model without creating one.
+     */
+    public static ValidationResult of(List<ValidationError> violations) {
+        if (violations == null || violations.isEmpty()) {
+            return new ValidationResult(true, new ArrayList<>());
+        }
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ValidationError violation : violations) {
+            errors.add(violation.getMessage());
+        }
+        ValidationResult result = new ValidationResult(false, errors);
+        result.violations = violations;
+        return result;
+    }
 }
@@ -0,0 +1,102 @@
+package com.optikpi.datapipeline.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks shared by the model validators
+ *
+ * Checks on valid input allocate nothing, so validating a valid model costs no garbage;
+ * errors are collected in a list created on the first failure.
+ */
+final class Validators {
+    static final Set<String> DEVICES = Set.of("desktop", "mobile", "tablet", "app");
+    static final Set<String> PAYMENT_METHODS = Set.of(
+        "bank", "credit_card", "debit_card", "e_wallet", "crypto", "paypal", "skrill", "neteller");
+
+    private Validators() {}
+
+    /**
+     * Adds an error, creating the list on the first one
+     * @return The list holding the error
+     */
+    static List<ValidationError> addError(List<ValidationError> errors, String field, ErrorCode code, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>(4);
+        }
+        errors.add(new ValidationError(field, code, message));
+        return errors;
+    }
+
+    /**
+     * Same as {@code value == null || value.trim().isEmpty()} without the trimmed copy
+     */
+    static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as matching {@code ^[^\s@]+@[^\s@]+\.[^\s@]+$}: one '@' preceded by at least one
+     * character, no whitespace, and a '.' in the domain with characters on both sides
+     */
+    static boolean isEmail(String value) {
+        int at = -1;
+        boolean domainDot = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (c == '.') {
+                domainDot |= at >= 0 && i > at + 1 && i < value.length() - 1;
+            } else if (isRegexWhitespace(c)) {
+                return false;
+            }
+        }
+        return at > 0 && domainDot;
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Same as matching {@code ^[A-Z]{3}$}
+     */
+    static boolean isCurrencyCode(String value) {
+        return value.length() == 3
+            && isUpperAscii(value.charAt(0))
+            && isUpperAscii(value.charAt(1))
+            && isUpperAscii(value.charAt(2));
+    }
+
+    private static boolean isUpperAscii(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Whether the value is an ISO 8601 instant accepted by {@link Instant#parse}, see {@link IsoTimestamps}
+     */
+    static boolean isIsoInstant(String value) {
+        return IsoTimestamps.isValid(value);
+    }
+
+    /**
+     * Whether the value is a YYYY-MM-DD date, see {@link IsoTimestamps#isValidDate}
+     */
+    static boolean isIsoDate(String value) {
+        return IsoTimestamps.isValidDate(value);
+    }
+}
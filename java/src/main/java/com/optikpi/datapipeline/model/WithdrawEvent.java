@@ -2,10 +2,12 @@ package com.optikpi.datapipeline.model;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.optikpi.datapipeline.codegen.GenerateJsonWriter;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
@@ -14,7 +16,9 @@ import jakarta.validation.constraints.Positive;
  * Withdrawal Event Model
  * Represents withdrawal-related events for the Data Pipeline API
  */
-public class WithdrawEvent {
+@GenerateJsonWriter
+public class WithdrawEvent implements IdentifiedEvent, Validatable {
+    private static final Set<String> STATUSES = Set.of("success", "pending", "failed", "cancelled", "rejected");
     
     @NotBlank(message = "account_id is required")
     @JsonProperty("account_id")
@@ -74,85 +78,85 @@ public class WithdrawEvent {
      * Validates the withdrawal event data
      * @return Validation result with isValid boolean and errors list
      */
+    @Override
     public ValidationResult validate() {
-        List<String> errors = new ArrayList<>();
+        return ValidationResult.of(violations());
+    }
+    
+    @Override
+    @JsonIgnore
+    public boolean isValid() {
+        return violations() == null;
+    }
+    
+    /**
+     * @return Failed checks, null if there are none
+     */
+    private List<ValidationError> violations() {
+        List<ValidationError> errors = null;
         
         // Required fields validation
-        if (accountId == null || accountId.trim().isEmpty()) {
-            errors.add("account_id is required");
+        if (Validators.isBlank(accountId)) {
+            errors = Validators.addError(errors, "account_id", ErrorCode.REQUIRED, "account_id is required");
         }
-        if (workspaceId == null || workspaceId.trim().isEmpty()) {
-            errors.add("workspace_id is required");
+        if (Validators.isBlank(workspaceId)) {
+            errors = Validators.addError(errors, "workspace_id", ErrorCode.REQUIRED, "workspace_id is required");
         }
-        if (userId == null || userId.trim().isEmpty()) {
-            errors.add("user_id is required");
+        if (Validators.isBlank(userId)) {
+            errors = Validators.addError(errors, "user_id", ErrorCode.REQUIRED, "user_id is required");
         }
-        if (eventName == null || eventName.trim().isEmpty()) {
-            errors.add("event_name is required");
+        if (Validators.isBlank(eventName)) {
+            errors = Validators.addError(errors, "event_name", ErrorCode.REQUIRED, "event_name is required");
         }
-        if (eventId == null || eventId.trim().isEmpty()) {
-            errors.add("event_id is required");
+        if (Validators.isBlank(eventId)) {
+            errors = Validators.addError(errors, "event_id", ErrorCode.REQUIRED, "event_id is required");
         }
-        if (eventTime == null || eventTime.trim().isEmpty()) {
-            errors.add("event_time is required");
+        if (Validators.isBlank(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.REQUIRED, "event_time is required");
         }
         if (amount == null) {
-            errors.add("amount is required");
+            errors = Validators.addError(errors, "amount", ErrorCode.REQUIRED, "amount is required");
         }
-        if (paymentMethod == null || paymentMethod.trim().isEmpty()) {
-            errors.add("payment_method is required");
+        if (Validators.isBlank(paymentMethod)) {
+            errors = Validators.addError(errors, "payment_method", ErrorCode.REQUIRED, "payment_method is required");
         }
-        if (transactionId == null || transactionId.trim().isEmpty()) {
-            errors.add("transaction_id is required");
+        if (Validators.isBlank(transactionId)) {
+            errors = Validators.addError(errors, "transaction_id", ErrorCode.REQUIRED, "transaction_id is required");
         }
         
         // Event category validation
         if (eventCategory != null && !"Withdraw".equals(eventCategory)) {
-            errors.add("event_category must be \"Withdraw\" for withdrawal events");
+            errors = Validators.addError(errors, "event_category", ErrorCode.INVALID_VALUE, "event_category must be \"Withdraw\" for withdrawal events");
         }
         
         // Payment method validation - ADDED to match JavaScript
         if (paymentMethod != null && !isValidPaymentMethod(paymentMethod)) {
-            errors.add("payment_method must be one of: bank, credit_card, debit_card, e_wallet, crypto, paypal, skrill, neteller");
+            errors = Validators.addError(errors, "payment_method", ErrorCode.INVALID_VALUE, "payment_method must be one of: bank, credit_card, debit_card, e_wallet, crypto, paypal, skrill, neteller");
         }
         
         // Date format validation
-        if (eventTime != null && !isValidDateTime(eventTime)) {
-            errors.add("event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
+        if (eventTime != null && !Validators.isIsoInstant(eventTime)) {
+            errors = Validators.addError(errors, "event_time", ErrorCode.INVALID_FORMAT, "event_time must be in ISO 8601 format (YYYY-MM-DDTHH:mm:ssZ)");
         }
         
         // Amount validation
         if (amount != null && amount.compareTo(BigDecimal.ZERO) <= 0) {
-            errors.add("amount must be positive");
+            errors = Validators.addError(errors, "amount", ErrorCode.OUT_OF_RANGE, "amount must be positive");
         }
         
-        return new ValidationResult(errors.isEmpty(), errors);
+        return errors;
     }
     
     private boolean isValidStatus(String status) {
-        return "success".equals(status) || "pending".equals(status) || 
-               "failed".equals(status) || "cancelled".equals(status) || "rejected".equals(status);
+        return STATUSES.contains(status);
     }
     
     private boolean isValidDevice(String device) {
-        return "desktop".equals(device) || "mobile".equals(device) || 
-               "tablet".equals(device) || "app".equals(device);
+        return Validators.DEVICES.contains(device);
     }
     
     private boolean isValidPaymentMethod(String method) {
-        return "bank".equals(method) || "credit_card".equals(method) || 
-               "debit_card".equals(method) || "e_wallet".equals(method) ||
-               "crypto".equals(method) || "paypal".equals(method) ||
-               "skrill".equals(method) || "neteller".equals(method);
-    }
-    
-    private boolean isValidDateTime(String dateTime) {
-        try {
-            Instant.parse(dateTime);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return Validators.PAYMENT_METHODS.contains(method);
     }
     
     // Getters and Setters
@@ -177,6 +181,16 @@ public class WithdrawEvent {
     public String getEventTime() { return eventTime; }
     public void setEventTime(String eventTime) { this.eventTime = eventTime; }
     
+    /**
+     * Sets event_time from an instant, formatted as UTC ISO 8601
+     */
+    public void setEventTimeInstant(Instant eventTime) { this.eventTime = IsoTimestamps.format(eventTime); }
+    
+    /**
+     * Sets event_time from milliseconds since the epoch, formatted as UTC ISO 8601
+     */
+    public void setEventTimeEpochMillis(long eventTime) { this.eventTime = IsoTimestamps.formatEpochMillis(eventTime); }
+    
     public BigDecimal getAmount() { return amount; }
     public void setAmount(BigDecimal amount) { this.amount = amount; }
 
@@ -0,0 +1,225 @@
+package com.optikpi.datapipeline.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker guarding one endpoint
+ *
+ * While CLOSED every call is permitted and its outcome is recorded in a sliding window
+ * of the last calls. Once the window holds the minimum number of calls and either the
+ * failure rate or the slow-call rate reaches its threshold, the breaker opens and rejects
+ * calls for the open duration. The next call after that moves it to HALF_OPEN, where a
+ * limited number of trial calls are permitted; their outcome closes the breaker again or
+ * reopens it. Results of calls admitted before the breaker opened are ignored.
+ */
+public class CircuitBreaker {
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    /**
+     * State of a circuit breaker
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Receives state transitions. Called while the breaker is locked, so it must not block.
+     */
+    public interface StateListener {
+        void onStateTransition(String name, State from, State to);
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final StateListener listener;
+    private final LongSupplier nanoTime;
+    private final byte[] outcomes;
+    private int position;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long stateSince;
+    private int permits;
+
+    /**
+     * @param name Name passed to the listener, such as the endpoint path
+     * @param windowSize Number of most recent calls the rates are computed over
+     * @param minimumCalls Calls recorded before the rates are evaluated
+     * @param failureRateThreshold Share of failed calls, in (0, 1], that opens the breaker
+     * @param slowCallRateThreshold Share of slow calls, in (0, 1], that opens the breaker
+     * @param slowCallMillis Duration from which a call counts as slow
+     * @param openMillis Time the breaker rejects calls before permitting trial calls
+     * @param halfOpenCalls Trial calls permitted in HALF_OPEN, at most windowSize
+     * @param listener Receives state transitions, may be null
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowCallRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls,
+                          StateListener listener) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallMillis,
+                openMillis, halfOpenCalls, listener, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime Time source in nanoseconds, such as {@link System#nanoTime()}
+     */
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   double slowCallRateThreshold, long slowCallMillis, long openMillis, int halfOpenCalls,
+                   StateListener listener, LongSupplier nanoTime) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("slidingWindowSize must be at least 1");
+        }
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and slidingWindowSize");
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be in (0, 1]");
+        }
+        if (slowCallMillis < 1) {
+            throw new IllegalArgumentException("slowCallDuration must be positive");
+        }
+        if (openMillis < 0) {
+            throw new IllegalArgumentException("openDuration cannot be negative");
+        }
+        if (halfOpenCalls < 1 || halfOpenCalls > windowSize) {
+            throw new IllegalArgumentException("halfOpenCalls must be between 1 and slidingWindowSize");
+        }
+        this.name = name;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.halfOpenCalls = halfOpenCalls;
+        this.listener = listener;
+        this.nanoTime = nanoTime;
+        this.outcomes = new byte[windowSize];
+        this.stateSince = nanoTime.getAsLong();
+    }
+
+    /**
+     * Asks for permission to make a call; every permitted call must be followed by
+     * {@link #onResult(boolean, long)}, or by {@link #release()} if no call was made
+     * @return false if the call must not be made
+     */
+    public synchronized boolean tryAcquire() {
+        long now = nanoTime.getAsLong();
+        switch (state) {
+            case OPEN:
+                if (now - stateSince < openNanos) {
+                    return false;
+                }
+                transition(State.HALF_OPEN, now);
+                break;
+            case HALF_OPEN:
+                // Trial calls that never reported back are replaced after the open duration
+                if (permits == 0 && now - stateSince >= openNanos) {
+                    permits = halfOpenCalls - recorded;
+                    stateSince = now;
+                }
+                break;
+            case CLOSED:
+            default:
+                return true;
+        }
+        if (permits == 0) {
+            return false;
+        }
+        permits--;
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call
+     * @param success false if the call failed in a way that counts towards opening the breaker
+     * @param durationNanos Duration of the call
+     */
+    public synchronized void onResult(boolean success, long durationNanos) {
+        if (state == State.OPEN) {
+            return;
+        }
+        record((success ? 0 : FAILED) | (durationNanos >= slowCallNanos ? SLOW : 0));
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transition(exceedsThresholds() ? State.OPEN : State.CLOSED, nanoTime.getAsLong());
+            }
+        } else if (recorded >= minimumCalls && exceedsThresholds()) {
+            transition(State.OPEN, nanoTime.getAsLong());
+        }
+    }
+
+    /**
+     * Gives back the permission of a call that was not made, such as a cancelled or shed
+     * one, so a HALF_OPEN breaker can permit another trial call in its place
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && permits + recorded < halfOpenCalls) {
+            permits++;
+        }
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return Share of failed calls in the current window, 0 if no call was recorded
+     */
+    public synchronized double getFailureRate() {
+        return recorded > 0 ? (double) failures / recorded : 0;
+    }
+
+    /**
+     * @return Share of slow calls in the current window, 0 if no call was recorded
+     */
+    public synchronized double getSlowCallRate() {
+        return recorded > 0 ? (double) slowCalls / recorded : 0;
+    }
+
+    private void record(int outcome) {
+        if (recorded == outcomes.length) {
+            // The window is full, the oldest outcome drops out
+            byte evicted = outcomes[position];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[position] = (byte) outcome;
+        position = (position + 1) % outcomes.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+    }
+
+    private boolean exceedsThresholds() {
+        return failures >= failureRateThreshold * recorded || slowCalls >= slowCallRateThreshold * recorded;
+    }
+
+    private void transition(State to, long now) {
+        State from = state;
+        state = to;
+        stateSince = now;
+        // Each state starts from an empty window; HALF_OPEN judges its trial calls only
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        slowCalls = 0;
+        permits = to == State.HALF_OPEN ? halfOpenCalls : 0;
+        if (listener != null) {
+            listener.onStateTransition(name, from, to);
+        }
+    }
+}
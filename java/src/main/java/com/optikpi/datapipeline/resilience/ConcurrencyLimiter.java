@@ -0,0 +1,155 @@
+package com.optikpi.datapipeline.resilience;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Adaptive limit on the number of requests in flight, in the style of TCP Vegas
+ *
+ * The limit follows the queueing the gateway shows in its round-trip times: with the
+ * lowest RTT seen as the no-load baseline, limit * (1 - baseline / rtt) estimates how
+ * many requests are queued on the way. Below a small threshold the limit grows, above
+ * a larger one it shrinks, and a dropped request (network error, throttling or server
+ * error) halves it. The baseline is re-learned every 1000 samples so a gateway that
+ * became slower for good is not mistaken for a congested one.
+ *
+ * Tasks submitted while the limit is reached wait in a bounded FIFO queue and are run
+ * on the given executor as slots free up; when the queue is full they are shed.
+ */
+public class ConcurrencyLimiter {
+    private static final int PROBE_SAMPLES = 1000;
+    private static final double DROP_FACTOR = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueued;
+    private final Executor executor;
+    private final Queue<Runnable> queued = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long baselineRtt = Long.MAX_VALUE;
+    private int samples;
+
+    /**
+     * @param initialLimit Limit before any RTT was observed
+     * @param minLimit Lowest limit drops and congestion can push it to
+     * @param maxLimit Highest limit it grows to
+     * @param maxQueued Tasks waiting for a slot before further ones are shed
+     * @param executor Runs queued tasks once a slot frees up
+     */
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueued, Executor executor) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be at least 1");
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit cannot be less than minLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued cannot be negative");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueued = maxQueued;
+        this.executor = executor;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Runs the task on the calling thread if a slot is free, otherwise queues it. The task
+     * holds a slot and must end with {@link #onSample(long, boolean)} or {@link #release()}.
+     * @return false if the queue is full and the task was shed without running
+     */
+    public boolean submit(Runnable task) {
+        synchronized (this) {
+            if (inFlight >= (int) limit || !queued.isEmpty()) {
+                if (queued.size() >= maxQueued) {
+                    return false;
+                }
+                queued.add(task);
+                return true;
+            }
+            inFlight++;
+        }
+        task.run();
+        return true;
+    }
+
+    /**
+     * Frees the slot of a completed request and adapts the limit to its outcome
+     * @param rttNanos Round-trip time of the request
+     * @param dropped true if the request failed in a way that signals overload
+     */
+    public void onSample(long rttNanos, boolean dropped) {
+        synchronized (this) {
+            adapt(rttNanos, dropped);
+            inFlight--;
+        }
+        runQueued();
+    }
+
+    /**
+     * Frees the slot of a task that made no request, such as a cancelled one
+     */
+    public void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        runQueued();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return queued.size();
+    }
+
+    private void adapt(long rttNanos, boolean dropped) {
+        if (++samples % PROBE_SAMPLES == 0) {
+            baselineRtt = Long.MAX_VALUE;
+        }
+        baselineRtt = Math.min(baselineRtt, Math.max(1, rttNanos));
+
+        if (dropped) {
+            limit = Math.max(minLimit, limit * DROP_FACTOR);
+            return;
+        }
+
+        double log = Math.max(1, Math.log10(limit));
+        double queueing = limit * (1 - (double) baselineRtt / Math.max(1, rttNanos));
+        if (queueing < 3 * log) {
+            // Only grow when the current limit is actually used
+            if (inFlight * 2 >= (int) limit) {
+                limit = Math.min(maxLimit, limit + log);
+            }
+        } else if (queueing > 6 * log) {
+            limit = Math.max(minLimit, limit - log);
+        }
+    }
+
+    /**
+     * Hands queued tasks to the executor while slots are free
+     */
+    private void runQueued() {
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                if (inFlight >= (int) limit || queued.isEmpty()) {
+                    return;
+                }
+                task = queued.poll();
+                inFlight++;
+            }
+            executor.execute(task);
+        }
+    }
+}
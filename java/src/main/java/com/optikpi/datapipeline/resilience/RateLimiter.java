@@ -0,0 +1,91 @@
+package com.optikpi.datapipeline.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking token bucket that paces requests instead of rejecting them
+ *
+ * {@link #reserve()} books the next free slot and returns how long the caller has to
+ * wait before sending, so callers can schedule the request rather than park a thread.
+ * The limiter adapts to gateway throttling: a 429 halves the current rate (never below
+ * a tenth of the configured rate) and pauses all requests until Retry-After has passed,
+ * while every successful request gives back a small share of the configured rate.
+ * A limiter created without a rate only applies Retry-After pauses.
+ */
+public class RateLimiter {
+    private static final double MIN_RATE_FACTOR = 0.1;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_FACTOR = 0.02;
+    
+    private final double configuredRate;
+    private final int burst;
+    private double rate;
+    private long intervalNanos;
+    private long theoreticalArrival;
+    private long pausedUntil;
+    
+    /**
+     * @param requestsPerSecond Sustained rate, or 0 for no rate limit
+     * @param burst Requests allowed back to back after an idle period
+     */
+    public RateLimiter(double requestsPerSecond, int burst) {
+        this.configuredRate = Math.max(0, requestsPerSecond);
+        this.burst = Math.max(1, burst);
+        this.theoreticalArrival = System.nanoTime();
+        this.pausedUntil = theoreticalArrival;
+        setRate(configuredRate);
+    }
+    
+    /**
+     * Reserves a slot for one request
+     * @return Nanoseconds to wait before sending; 0 to send immediately
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        long start = Math.max(now, pausedUntil);
+        if (intervalNanos == 0) {
+            return start - now;
+        }
+        
+        theoreticalArrival = Math.max(theoreticalArrival, start) + intervalNanos;
+        long wait = theoreticalArrival - now - burst * intervalNanos;
+        return Math.max(start - now, Math.max(0, wait));
+    }
+    
+    /**
+     * Records a throttling response from the gateway
+     * @param retryAfterMillis Delay requested by the Retry-After header, or a negative value if absent
+     */
+    public synchronized void onThrottled(long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            long resumeAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+            if (resumeAt - pausedUntil > 0) {
+                pausedUntil = resumeAt;
+            }
+        }
+        if (configuredRate > 0) {
+            setRate(Math.max(configuredRate * MIN_RATE_FACTOR, rate * DECREASE_FACTOR));
+        }
+    }
+    
+    /**
+     * Records a request that was not throttled
+     */
+    public synchronized void onSuccess() {
+        if (configuredRate > 0 && rate < configuredRate) {
+            setRate(Math.min(configuredRate, rate + configuredRate * INCREASE_FACTOR));
+        }
+    }
+    
+    /**
+     * @return Current rate in requests per second, or 0 if unlimited
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+    
+    private void setRate(double requestsPerSecond) {
+        this.rate = requestsPerSecond;
+        this.intervalNanos = requestsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) : 0;
+    }
+}
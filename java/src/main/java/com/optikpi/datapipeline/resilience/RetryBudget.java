@@ -0,0 +1,61 @@
+package com.optikpi.datapipeline.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client-wide retry budget (token bucket throttling)
+ *
+ * Every failed attempt removes one token and every successful request adds
+ * {@code tokenRatio} tokens, up to {@code maxTokens}. Retries are only allowed while
+ * more than half of the bucket is filled, so a fleet of clients stops amplifying load
+ * once the gateway starts failing most requests, and recovers as successes return.
+ */
+public class RetryBudget {
+    private static final long SCALE = 1000;
+    
+    private final long maxTokens;
+    private final long threshold;
+    private final long tokenRatio;
+    private final AtomicLong tokens;
+    
+    public RetryBudget(int maxTokens, double tokenRatio) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be at least 1");
+        }
+        if (tokenRatio <= 0) {
+            throw new IllegalArgumentException("tokenRatio must be positive");
+        }
+        this.maxTokens = maxTokens * SCALE;
+        this.threshold = this.maxTokens / 2;
+        this.tokenRatio = Math.max(1, Math.round(tokenRatio * SCALE));
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+    
+    /**
+     * Records a successful request
+     */
+    public void onSuccess() {
+        tokens.accumulateAndGet(tokenRatio, (current, delta) -> Math.min(maxTokens, current + delta));
+    }
+    
+    /**
+     * Records a failed attempt
+     */
+    public void onFailure() {
+        tokens.accumulateAndGet(SCALE, (current, delta) -> Math.max(0, current - delta));
+    }
+    
+    /**
+     * @return true if the budget currently allows a retry
+     */
+    public boolean canRetry() {
+        return tokens.get() > threshold;
+    }
+    
+    /**
+     * @return Remaining tokens
+     */
+    public double getTokens() {
+        return (double) tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,156 @@
+package com.optikpi.datapipeline.resilience;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exponential backoff with full jitter, bounded by an attempt count, a per-request
+ * retry deadline and a shared {@link RetryBudget}
+ *
+ * The delay before retry {@code n} (1-based) is drawn uniformly from
+ * {@code [0, min(maxDelay, baseDelay * 2^(n-1))]}, which spreads retries of many
+ * clients over time instead of letting them hit the gateway in lockstep.
+ *
+ * Throttled requests (HTTP 429) follow {@link #throttledDelayMillis}: they wait for the
+ * gateway's Retry-After and are bounded by the retry deadline rather than the retry count
+ * or budget, so paced sends are delayed instead of dropped.
+ */
+public class RetryPolicy {
+    public static final long NO_RETRY = -1;
+    
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long deadlineMs;
+    private final RetryBudget budget;
+    
+    /**
+     * @param maxRetries Maximum number of retries after the first attempt
+     * @param baseDelayMs Backoff ceiling for the first retry
+     * @param maxDelayMs Upper bound of the backoff ceiling
+     * @param deadlineMs Time after the first attempt past which no retry is started; 0 disables the deadline
+     * @param budget Shared retry budget, or null for no budget
+     */
+    public RetryPolicy(int maxRetries, long baseDelayMs, long maxDelayMs, long deadlineMs, RetryBudget budget) {
+        this.maxRetries = Math.max(0, maxRetries);
+        this.baseDelayMs = Math.max(0, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        this.deadlineMs = Math.max(0, deadlineMs);
+        this.budget = budget;
+    }
+    
+    /**
+     * Computes the delay before the next retry
+     * @param retry 1-based number of the retry about to be scheduled
+     * @param startedAtNanos {@link System#nanoTime()} of the first attempt
+     * @return Delay in milliseconds, or {@link #NO_RETRY} if the request must not be retried
+     */
+    public long nextDelayMillis(int retry, long startedAtNanos) {
+        return nextDelayMillis(retry, startedAtNanos, -1);
+    }
+    
+    /**
+     * Computes the delay before the next retry, honoring a server supplied Retry-After
+     * @param retry 1-based number of the retry about to be scheduled
+     * @param startedAtNanos {@link System#nanoTime()} of the first attempt
+     * @param retryAfterMillis Delay requested by the server, or a negative value if none
+     * @return Delay in milliseconds, or {@link #NO_RETRY} if the request must not be retried
+     */
+    public long nextDelayMillis(int retry, long startedAtNanos, long retryAfterMillis) {
+        if (retry > maxRetries) {
+            return NO_RETRY;
+        }
+        
+        long delay = Math.max(jitteredBackoff(retry), retryAfterMillis);
+        if (!withinDeadline(startedAtNanos, delay)) {
+            return NO_RETRY;
+        }
+        if (budget != null && !budget.canRetry()) {
+            return NO_RETRY;
+        }
+        return delay;
+    }
+    
+    /**
+     * Computes the delay before resending a throttled (429) request
+     * @param throttledRetry 1-based number of throttled retries of this request so far
+     * @param startedAtNanos {@link System#nanoTime()} of the first attempt
+     * @param retryAfterMillis Delay requested by the server, or a negative value if none
+     * @return Delay in milliseconds, or {@link #NO_RETRY} once the retry deadline would be exceeded
+     */
+    public long throttledDelayMillis(int throttledRetry, long startedAtNanos, long retryAfterMillis) {
+        if (deadlineMs == 0 && throttledRetry > maxRetries) {
+            return NO_RETRY;
+        }
+        
+        long delay = retryAfterMillis >= 0 ? retryAfterMillis : jitteredBackoff(throttledRetry);
+        return withinDeadline(startedAtNanos, delay) ? delay : NO_RETRY;
+    }
+    
+    private long jitteredBackoff(int retry) {
+        long ceiling = backoffCeiling(retry);
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+    
+    private boolean withinDeadline(long startedAtNanos, long delay) {
+        if (deadlineMs == 0) {
+            return true;
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos);
+        return elapsedMs + delay < deadlineMs;
+    }
+    
+    private long backoffCeiling(int retry) {
+        int shift = Math.min(retry - 1, 30);
+        long ceiling = baseDelayMs << shift;
+        return (ceiling < 0 || ceiling > maxDelayMs) ? maxDelayMs : ceiling;
+    }
+    
+    /**
+     * Records the outcome of an attempt in the retry budget
+     */
+    public void recordAttempt(boolean success) {
+        if (budget == null) {
+            return;
+        }
+        if (success) {
+            budget.onSuccess();
+        } else {
+            budget.onFailure();
+        }
+    }
+    
+    /**
+     * Parses a Retry-After header given either in seconds or as an HTTP date
+     * @return Delay in milliseconds, or -1 if the header is absent or malformed
+     */
+    public static long parseRetryAfterMillis(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try HTTP-date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(Instant.now(), date.toInstant()).toMillis());
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+    
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+    
+    public RetryBudget getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,475 @@
+package com.optikpi.datapipeline.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable write-ahead spool for request payloads
+ *
+ * Payloads are appended to segment files before they are sent and acknowledged once
+ * the gateway accepted them. Each record is stored as
+ * {@code [int length][int crc32][short endpointLength][endpoint][payload]}, where the
+ * CRC covers everything after it, and is identified by its global byte position.
+ * A checkpoint file holds the position below which every record is acknowledged;
+ * segments entirely below it are deleted. The checkpoint is written after a number of
+ * acknowledgements or once an interval has passed, and on close; records acknowledged
+ * after the last write may be replayed after a crash, as delivery is at least once. On open, records after the checkpoint are
+ * scanned and a torn or corrupt tail is truncated, so unacknowledged payloads survive
+ * a restart and can be replayed.
+ */
+public class EventSpool implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(EventSpool.class);
+    
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = Integer.MAX_VALUE - HEADER_BYTES;
+    private static final int DEFAULT_CHECKPOINT_ACKS = 64;
+    private static final long DEFAULT_CHECKPOINT_MILLIS = 1000;
+    
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final int checkpointAcks;
+    private final long checkpointNanos;
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private final ConcurrentSkipListMap<Long, String> pending = new ConcurrentSkipListMap<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    // Guards the files; a monitor held across file I/O would pin virtual threads to their carriers
+    private final ReentrantLock lock = new ReentrantLock();
+    private Segment active;
+    private long writePosition;
+    private long checkpoint;
+    private int acksSinceCheckpoint;
+    private long checkpointedAt = System.nanoTime();
+    private boolean closed;
+    
+    /**
+     * Opens the spool, recovering unacknowledged records left by a previous run
+     * @param directory Spool directory, created if missing
+     * @param segmentBytes Size after which a new segment file is started
+     * @param fsync Whether to force every append to the storage device
+     */
+    public EventSpool(Path directory, long segmentBytes, boolean fsync) throws IOException {
+        this(directory, segmentBytes, fsync, DEFAULT_CHECKPOINT_ACKS, DEFAULT_CHECKPOINT_MILLIS);
+    }
+    
+    /**
+     * Opens the spool, recovering unacknowledged records left by a previous run
+     * @param directory Spool directory, created if missing
+     * @param segmentBytes Size after which a new segment file is started
+     * @param fsync Whether to force every append to the storage device
+     * @param checkpointAcks Acknowledgements after which the checkpoint is written
+     * @param checkpointMillis Time after which an acknowledgement writes the checkpoint
+     */
+    public EventSpool(Path directory, long segmentBytes, boolean fsync, int checkpointAcks,
+                      long checkpointMillis) throws IOException {
+        if (segmentBytes < 1) {
+            throw new IllegalArgumentException("segmentBytes must be positive");
+        }
+        if (checkpointAcks < 1) {
+            throw new IllegalArgumentException("checkpointAcks must be positive");
+        }
+        if (checkpointMillis < 0) {
+            throw new IllegalArgumentException("checkpointMillis must not be negative");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.checkpointAcks = checkpointAcks;
+        this.checkpointNanos = TimeUnit.MILLISECONDS.toNanos(checkpointMillis);
+        Files.createDirectories(directory);
+        recover();
+    }
+    
+    /**
+     * Appends a payload
+     * @return Record id used to acknowledge the payload
+     */
+    public long append(String endpoint, byte[] payload) throws IOException {
+        lock.lock();
+        try {
+            return write(endpoint, payload);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private long write(String endpoint, byte[] payload) throws IOException {
+        if (closed) {
+            throw new IOException("Spool is closed");
+        }
+        byte[] endpointBytes = endpoint.getBytes(StandardCharsets.UTF_8);
+        long length = 2L + endpointBytes.length + payload.length;
+        if (length > MAX_RECORD_BYTES) {
+            throw new IOException("Payload too large for spool");
+        }
+        
+        if (active.size > 0 && active.size + HEADER_BYTES + length > segmentBytes) {
+            rotate();
+        }
+        
+        CRC32 crc = new CRC32();
+        ByteBuffer endpointLength = ByteBuffer.allocate(2).putShort(0, (short) endpointBytes.length);
+        crc.update(endpointLength.array());
+        crc.update(endpointBytes);
+        crc.update(payload);
+        
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt((int) length).putInt((int) crc.getValue()).flip();
+        ByteBuffer[] record = { header, endpointLength, ByteBuffer.wrap(endpointBytes), ByteBuffer.wrap(payload) };
+        
+        long id = writePosition;
+        long remaining = HEADER_BYTES + length;
+        try {
+            while (remaining > 0) {
+                remaining -= active.channel.write(record);
+            }
+            if (fsync) {
+                active.channel.force(false);
+            }
+        } catch (IOException | RuntimeException e) {
+            discardPartialRecord(e);
+            throw e;
+        }
+        
+        active.size += HEADER_BYTES + length;
+        writePosition += HEADER_BYTES + length;
+        pending.put(id, endpoint);
+        inFlight.add(id);
+        return id;
+    }
+    
+    /**
+     * Cuts a record that failed to be written completely, such as on a full disk, so the
+     * next record starts at the position its id points to
+     */
+    private void discardPartialRecord(Exception cause) {
+        try {
+            active.channel.truncate(active.size);
+            active.channel.position(active.size);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+            // Leave the torn tail to recovery, which truncates it, and continue in a new segment
+            Segment torn = active;
+            try {
+                rotate();
+                if (torn.file.equals(active.file)) {
+                    // The torn record was the first of its segment, which is rewritten from the start
+                    torn.channel.close();
+                }
+            } catch (IOException rotateFailure) {
+                cause.addSuppressed(rotateFailure);
+            }
+        }
+    }
+    
+    /**
+     * Acknowledges a record; it is not replayed again unless the spool is reopened after a
+     * crash before the next checkpoint write
+     */
+    public void acknowledge(long id) {
+        lock.lock();
+        try {
+            inFlight.remove(id);
+            if (pending.remove(id) == null || closed) {
+                return;
+            }
+            
+            acksSinceCheckpoint++;
+            if (acksSinceCheckpoint >= checkpointAcks || System.nanoTime() - checkpointedAt >= checkpointNanos) {
+                advanceCheckpoint();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Moves the checkpoint up to the first unacknowledged record and deletes the segments below it
+     */
+    private void advanceCheckpoint() {
+        long lowWaterMark = pending.isEmpty() ? writePosition : pending.firstKey();
+        if (lowWaterMark <= checkpoint) {
+            return;
+        }
+        try {
+            writeCheckpoint(lowWaterMark);
+            deleteSegmentsBelow(lowWaterMark);
+        } catch (IOException e) {
+            logger.warn("Failed to advance spool checkpoint", e);
+        }
+    }
+    
+    /**
+     * Returns a record to the replay pool after a failed delivery attempt
+     */
+    public void release(long id) {
+        inFlight.remove(id);
+    }
+    
+    /**
+     * Claims up to {@code max} records that are neither acknowledged nor being sent
+     * @return Claimed record ids in append order; release or acknowledge each of them
+     */
+    public List<Long> claim(int max) {
+        List<Long> claimed = new ArrayList<>();
+        for (Long id : pending.keySet()) {
+            if (claimed.size() >= max) {
+                break;
+            }
+            if (inFlight.add(id)) {
+                claimed.add(id);
+            }
+        }
+        return claimed;
+    }
+    
+    /**
+     * Reads a spooled record
+     */
+    public SpooledRecord read(long id) throws IOException {
+        lock.lock();
+        try {
+            return readRecord(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private SpooledRecord readRecord(long id) throws IOException {
+        Map.Entry<Long, Segment> entry = segments.floorEntry(id);
+        if (entry == null || !pending.containsKey(id)) {
+            throw new IOException("Unknown spool record " + id);
+        }
+        FileChannel channel = entry.getValue().channel;
+        long position = id - entry.getKey();
+        
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, position);
+        int length = header.getInt(0);
+        ByteBuffer body = ByteBuffer.allocate(length);
+        readFully(channel, body, position + HEADER_BYTES);
+        
+        int endpointLength = body.getShort(0) & 0xffff;
+        String endpoint = new String(body.array(), 2, endpointLength, StandardCharsets.UTF_8);
+        byte[] payload = new byte[length - 2 - endpointLength];
+        System.arraycopy(body.array(), 2 + endpointLength, payload, 0, payload.length);
+        return new SpooledRecord(id, endpoint, payload);
+    }
+    
+    /**
+     * @return Number of records not yet acknowledged
+     */
+    public int size() {
+        return pending.size();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            advanceCheckpoint();
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void recover() throws IOException {
+        checkpoint = readCheckpoint();
+        
+        List<Long> bases = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                bases.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        bases.sort(null);
+        
+        for (long base : bases) {
+            Segment segment = openSegment(base);
+            long validSize = scan(segment, base);
+            if (validSize < segment.channel.size()) {
+                logger.warn("Truncating corrupt spool tail in segment " + base + " at offset " + validSize);
+                segment.channel.truncate(validSize);
+            }
+            segment.size = validSize;
+            segments.put(base, segment);
+            writePosition = base + validSize;
+        }
+        
+        writePosition = Math.max(writePosition, checkpoint);
+        deleteSegmentsBelow(checkpoint);
+        if (segments.isEmpty() || segments.lastEntry().getKey() + segments.lastEntry().getValue().size != writePosition) {
+            active = openSegment(writePosition);
+            segments.put(writePosition, active);
+        } else {
+            active = segments.lastEntry().getValue();
+        }
+        active.channel.position(active.size);
+        
+        if (!pending.isEmpty()) {
+            logger.info("Recovered " + pending.size() + " unacknowledged records from spool " + directory);
+        }
+    }
+    
+    /**
+     * Registers every valid unacknowledged record of a segment
+     * @return Size of the valid prefix of the segment
+     */
+    private long scan(Segment segment, long base) throws IOException {
+        FileChannel channel = segment.channel;
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            int length = header.getInt(0);
+            int crc = header.getInt(4);
+            if (length < 2 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            
+            ByteBuffer body = ByteBuffer.allocate(length);
+            readFully(channel, body, position + HEADER_BYTES);
+            CRC32 actual = new CRC32();
+            actual.update(body.array());
+            int endpointLength = body.getShort(0) & 0xffff;
+            if ((int) actual.getValue() != crc || 2 + endpointLength > length) {
+                break;
+            }
+            
+            long id = base + position;
+            if (id >= checkpoint) {
+                pending.put(id, new String(body.array(), 2, endpointLength, StandardCharsets.UTF_8));
+            }
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+    
+    private void rotate() throws IOException {
+        active = openSegment(writePosition);
+        segments.put(writePosition, active);
+    }
+    
+    private Segment openSegment(long base) throws IOException {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+        return new Segment(file, openChannel(file));
+    }
+    
+    FileChannel openChannel(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+    
+    private void deleteSegmentsBelow(long position) throws IOException {
+        while (!segments.isEmpty()) {
+            Map.Entry<Long, Segment> first = segments.firstEntry();
+            Segment segment = first.getValue();
+            if (segment == active || first.getKey() + segment.size > position) {
+                break;
+            }
+            segments.remove(first.getKey());
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        }
+    }
+    
+    private long readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.remaining() != 12) {
+            logger.warn("Ignoring malformed spool checkpoint");
+            return 0;
+        }
+        long position = buffer.getLong();
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, 8);
+        if ((int) crc.getValue() != buffer.getInt()) {
+            logger.warn("Ignoring corrupt spool checkpoint");
+            return 0;
+        }
+        return position;
+    }
+    
+    private void writeCheckpoint(long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12).putLong(position);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, 8);
+        buffer.putInt((int) crc.getValue());
+        
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(true);
+            }
+        }
+        Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = position;
+        acksSinceCheckpoint = 0;
+        checkpointedAt = System.nanoTime();
+    }
+    
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of spool segment");
+            }
+        }
+        buffer.flip();
+    }
+    
+    private static final class Segment {
+        private final Path file;
+        private final FileChannel channel;
+        private long size;
+        
+        private Segment(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.optikpi.datapipeline.spool;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background task replaying unacknowledged spool records
+ *
+ * Runs once on start, which replays what a previous process left behind, and then every
+ * {@code intervalMs}. A successful replay immediately triggers another round so a
+ * backlog drains as fast as the gateway accepts it, with at most {@code maxInFlight}
+ * replays outstanding.
+ */
+public class SpoolDrainer implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(SpoolDrainer.class);
+    
+    /**
+     * Delivers a spooled payload
+     */
+    public interface Sender {
+        /**
+         * @return Future completed with true if the record can be acknowledged, false to keep it for a later replay
+         */
+        CompletableFuture<Boolean> send(String endpoint, byte[] payload);
+    }
+    
+    private final EventSpool spool;
+    private final Sender sender;
+    private final long intervalMs;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ScheduledExecutorService executor;
+    
+    public SpoolDrainer(EventSpool spool, Sender sender, long intervalMs, int maxInFlight) {
+        this.spool = spool;
+        this.sender = sender;
+        this.intervalMs = intervalMs;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "optikpi-spool-drainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    public void start() {
+        executor.scheduleWithFixedDelay(this::drain, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    private void drain() {
+        int capacity = maxInFlight - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+        
+        for (long id : spool.claim(capacity)) {
+            SpooledRecord record;
+            try {
+                record = spool.read(id);
+            } catch (Exception e) {
+                logger.error("Failed to read spool record " + id, e);
+                spool.release(id);
+                continue;
+            }
+            
+            inFlight.incrementAndGet();
+            sender.send(record.getEndpoint(), record.getPayload()).whenComplete((delivered, error) -> {
+                inFlight.decrementAndGet();
+                if (Boolean.TRUE.equals(delivered)) {
+                    spool.acknowledge(id);
+                    try {
+                        executor.execute(this::drain);
+                    } catch (RejectedExecutionException e) {
+                        // Drainer closed
+                    }
+                } else {
+                    spool.release(id);
+                }
+            });
+        }
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,28 @@
+package com.optikpi.datapipeline.spool;
+
+/**
+ * A payload read back from the spool
+ */
+public class SpooledRecord {
+    private final long id;
+    private final String endpoint;
+    private final byte[] payload;
+    
+    public SpooledRecord(long id, String endpoint, byte[] payload) {
+        this.id = id;
+        this.endpoint = endpoint;
+        this.payload = payload;
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    public String getEndpoint() {
+        return endpoint;
+    }
+    
+    public byte[] getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,23 @@
+package com.optikpi.datapipeline;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to virtual threads, Java 21 version of the multi-release jar
+ */
+final class VirtualThreads {
+    private VirtualThreads() {}
+    
+    static boolean isSupported() {
+        return true;
+    }
+    
+    /**
+     * @param name Name of the started threads
+     * @return Executor starting a new virtual thread for each task
+     */
+    static ExecutorService newThreadPerTaskExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name).factory());
+    }
+}
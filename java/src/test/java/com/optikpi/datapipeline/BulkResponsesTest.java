@@ -0,0 +1,84 @@
+package com.optikpi.datapipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BulkResponsesTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final List<Map<String, Object>> ITEMS = List.of(
+            Map.of("event_id", "a"), Map.of("event_id", "b"), Map.of("event_id", "c"));
+
+    @Test
+    void positionalRecordIdsGoToEachItem() throws IOException {
+        BulkResult.ItemResult[] results = apply(new int[] { 0, 1, 2 }, ok(), "{\"recordIds\":[\"r0\",\"r1\",\"r2\"]}");
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(results[i].isSuccess());
+            assertEquals(200, results[i].getStatus());
+            assertEquals("r" + i, results[i].getRecordId());
+        }
+        assertEquals("b", results[1].getEventId());
+    }
+
+    @Test
+    void recordIdsOfAnotherLengthAreNotAssigned() throws IOException {
+        BulkResult.ItemResult[] results = apply(new int[] { 0, 1, 2 }, ok(), "{\"recordIds\":[\"r0\",\"r1\"]}");
+
+        for (BulkResult.ItemResult result : results) {
+            assertTrue(result.isSuccess());
+            assertNull(result.getRecordId());
+        }
+    }
+
+    @Test
+    void recordIdsFollowTheRequestArrayOfAResubmission() throws IOException {
+        // Items 0 and 2 of the list were resent; recordIds[1] belongs to list item 2
+        BulkResult.ItemResult[] results = new BulkResult.ItemResult[3];
+        results[1] = new BulkResult.ItemResult(1, "b", true, 200, "rb", null);
+        BulkResponses.apply(results, ITEMS, new int[] { 0, 2 }, ok(), tree("{\"recordIds\":[\"ra\",\"rc\"]}"));
+
+        assertEquals("ra", results[0].getRecordId());
+        assertEquals("rb", results[1].getRecordId());
+        assertEquals("rc", results[2].getRecordId());
+        assertEquals("c", results[2].getEventId());
+    }
+
+    @Test
+    void failedRequestFailsEveryItem() throws IOException {
+        ApiResponse<Object> response = ApiResponse.error(400, "HTTP 400", null, Instant.now());
+        BulkResult.ItemResult[] results = apply(new int[] { 0, 1, 2 }, response, "{\"message\":\"Invalid payload\"}");
+
+        for (BulkResult.ItemResult result : results) {
+            assertFalse(result.isSuccess());
+            assertEquals(400, result.getStatus());
+            assertEquals("Invalid payload", result.getError());
+        }
+    }
+
+    private static BulkResult.ItemResult[] apply(int[] indices, ApiResponse<Object> response, String body) throws IOException {
+        BulkResult.ItemResult[] results = new BulkResult.ItemResult[ITEMS.size()];
+        BulkResponses.apply(results, ITEMS, indices, response, tree(body));
+        return results;
+    }
+
+    private static ApiResponse<Object> ok() {
+        return ApiResponse.success(200, null, Instant.now());
+    }
+
+    private static JsonNode tree(String json) throws IOException {
+        return MAPPER.readTree(json);
+    }
+}
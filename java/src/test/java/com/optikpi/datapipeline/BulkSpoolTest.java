@@ -0,0 +1,74 @@
+package com.optikpi.datapipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+class BulkSpoolTest {
+    @TempDir
+    Path spoolDirectory;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void spooledItemsFailAndAreNotResubmitted() {
+        ClientConfig config = new ClientConfig("token", "account", "workspace");
+        config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setRetries(0);
+        config.setSpoolDirectory(spoolDirectory);
+        config.setSpoolReplayInterval(3_600_000);
+        config.setDedupWindow(60_000);
+
+        DataPipelineClient client = new DataPipelineClient(config);
+        try {
+            List<Map<String, Object>> items = List.of(Map.of("event_id", "a"), Map.of("event_id", "b"));
+            BulkResult result = client.sendBulk(Endpoints.DEPOSIT_EVENTS, items);
+
+            assertEquals(2, result.getFailedCount());
+            for (BulkResult.ItemResult item : result.getResults()) {
+                assertFalse(item.isSuccess());
+                assertTrue(item.isSpooled());
+            }
+            assertTrue(result.getFailedItems().isEmpty());
+
+            int sent = requests.get();
+            assertSame(result, client.resubmitFailed(result));
+            assertEquals(sent, requests.get());
+        } finally {
+            client.close();
+        }
+    }
+}
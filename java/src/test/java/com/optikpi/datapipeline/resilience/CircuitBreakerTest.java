@@ -0,0 +1,107 @@
+package com.optikpi.datapipeline.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<String> transitions = new ArrayList<>();
+    private long now;
+
+    private CircuitBreaker breaker(long openMillis) {
+        // Window of 4 calls, evaluated from 4 calls on, opening at 50% failures, 2 trial calls
+        return new CircuitBreaker("/events/deposit", 4, 4, 0.5, 1.0, 1000, openMillis, 2,
+                (name, from, to) -> transitions.add(from + "->" + to), () -> now);
+    }
+
+    private void advanceMillis(long millis) {
+        now += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    void opensHalfOpensAndClosesAgain() {
+        CircuitBreaker breaker = breaker(50);
+        record(breaker, true, true, false, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        advanceMillis(49);
+        assertFalse(breaker.tryAcquire(), "rejects calls for the whole open duration");
+
+        advanceMillis(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire(), "only the trial calls are permitted");
+
+        breaker.onResult(true, FAST);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onResult(true, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    void failedTrialCallsReopen() {
+        CircuitBreaker breaker = breaker(50);
+        record(breaker, false, false, false, false);
+        advanceMillis(50);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(false, FAST);
+        breaker.onResult(true, FAST);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void slowCallsOpen() {
+        CircuitBreaker breaker = breaker(50);
+        long slow = TimeUnit.SECONDS.toNanos(2);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(true, slow);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void releasedTrialPermitCanBeTakenAgain() {
+        CircuitBreaker breaker = breaker(50);
+        record(breaker, false, false, false, false);
+        advanceMillis(50);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // A trial call that was shed before it was made gives its permit back
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        breaker.onResult(true, FAST);
+        breaker.onResult(true, FAST);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        CircuitBreaker breaker = breaker(50);
+        record(breaker, false, false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1.0, breaker.getFailureRate());
+    }
+
+    private static void record(CircuitBreaker breaker, boolean... outcomes) {
+        for (boolean success : outcomes) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(success, FAST);
+        }
+    }
+}
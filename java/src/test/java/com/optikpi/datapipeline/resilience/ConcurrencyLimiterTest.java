@@ -0,0 +1,73 @@
+package com.optikpi.datapipeline.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimiterTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // Runs nothing itself, so the test decides when handed over tasks run
+    private final List<Runnable> handedOver = new ArrayList<>();
+
+    @Test
+    void dropsHalveTheLimitDownToTheMinimum() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(16, 3, 64, 0, handedOver::add);
+        int[] expected = { 8, 4, 3, 3 };
+        for (int limit : expected) {
+            assertTrue(limiter.submit(() -> {}));
+            limiter.onSample(RTT, true);
+            assertEquals(limit, limiter.getLimit());
+        }
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void growsWhileRoundTripsStayAtBaseline() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 64, 0, handedOver::add);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.submit(() -> {}));
+        }
+        limiter.onSample(RTT, false);
+        assertTrue(limiter.getLimit() > 4);
+    }
+
+    @Test
+    void shrinksWhenRoundTripsShowQueueing() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(40, 1, 64, 0, handedOver::add);
+        assertTrue(limiter.submit(() -> {}));
+        limiter.onSample(RTT, false);
+        assertTrue(limiter.submit(() -> {}));
+        // Twice the baseline at a limit of 40 means about 20 requests queued on the way
+        limiter.onSample(2 * RTT, false);
+        assertTrue(limiter.getLimit() < 40);
+    }
+
+    @Test
+    void queuesUpToMaxQueuedThenSheds() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, 1, 2, handedOver::add);
+        List<String> ran = new ArrayList<>();
+        assertTrue(limiter.submit(() -> ran.add("first")));
+        assertTrue(limiter.submit(() -> ran.add("second")));
+        assertTrue(limiter.submit(() -> ran.add("third")));
+        assertFalse(limiter.submit(() -> ran.add("shed")));
+        assertEquals(List.of("first"), ran);
+        assertEquals(2, limiter.getQueued());
+
+        // Each freed slot hands the oldest queued task to the executor
+        limiter.onSample(RTT, false);
+        assertEquals(1, handedOver.size());
+        handedOver.remove(0).run();
+        limiter.release();
+        handedOver.remove(0).run();
+        assertEquals(List.of("first", "second", "third"), ran);
+        assertEquals(0, limiter.getQueued());
+        assertEquals(1, limiter.getInFlight());
+    }
+}
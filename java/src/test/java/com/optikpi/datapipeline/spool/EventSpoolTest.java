@@ -0,0 +1,273 @@
+package com.optikpi.datapipeline.spool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventSpoolTest {
+    private static final String ENDPOINT = "/ftd/deposit";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoveryTruncatesTornTail() throws IOException {
+        long first;
+        long second;
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false)) {
+            first = spool.append(ENDPOINT, bytes("first"));
+            second = spool.append(ENDPOINT, bytes("second"));
+        }
+
+        // A crash in the middle of an append leaves a header announcing more bytes than follow it
+        Path segment = Files.list(directory).filter(f -> f.getFileName().toString().startsWith("segment-")).findFirst().get();
+        long validSize = Files.size(segment);
+        ByteBuffer torn = ByteBuffer.allocate(12).putInt(100).putInt(0).putInt(42);
+        torn.flip();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(torn);
+        }
+
+        long third;
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false)) {
+            assertEquals(2, spool.size());
+            assertEquals(validSize, Files.size(segment));
+            third = spool.append(ENDPOINT, bytes("third"));
+            assertEquals(validSize, third);
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false)) {
+            assertEquals(List.of(first, second, third), spool.claim(10));
+            assertArrayEquals(bytes("second"), spool.read(second).getPayload());
+            assertArrayEquals(bytes("third"), spool.read(third).getPayload());
+        }
+    }
+
+    @Test
+    void outOfOrderAcknowledgementsKeepEarlierRecords() throws IOException {
+        long first;
+        long second;
+        long third;
+        try (EventSpool spool = new EventSpool(directory, 64, false)) {
+            first = spool.append(ENDPOINT, bytes("first"));
+            second = spool.append(ENDPOINT, bytes("second"));
+            third = spool.append(ENDPOINT, bytes("third"));
+            spool.acknowledge(third);
+            spool.acknowledge(first);
+            assertEquals(1, spool.size());
+        }
+
+        // The checkpoint only moves past acknowledged records that nothing earlier is waiting on,
+        // so the third record is replayed again while the first is not
+        try (EventSpool spool = new EventSpool(directory, 64, false)) {
+            assertEquals(List.of(second, third), spool.claim(10));
+            assertArrayEquals(bytes("second"), spool.read(second).getPayload());
+            assertThrows(IOException.class, () -> spool.read(first));
+
+            spool.acknowledge(second);
+            spool.acknowledge(third);
+            assertEquals(0, spool.size());
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 64, false)) {
+            assertEquals(0, spool.size());
+            assertFalse(Files.exists(directory.resolve(String.format("segment-%020d.log", first))));
+        }
+    }
+
+    @Test
+    void checkpointIsWrittenEveryFewAcknowledgements() throws IOException {
+        Path checkpoint = directory.resolve("checkpoint");
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false, 3, 3_600_000)) {
+            long first = spool.append(ENDPOINT, bytes("first"));
+            long second = spool.append(ENDPOINT, bytes("second"));
+            long third = spool.append(ENDPOINT, bytes("third"));
+            spool.acknowledge(first);
+            spool.acknowledge(second);
+            assertFalse(Files.exists(checkpoint));
+
+            // Until the checkpoint is written, a restart replays acknowledged records too
+            try (EventSpool crashed = new EventSpool(directory, 1 << 20, false)) {
+                assertEquals(3, crashed.size());
+            }
+
+            spool.acknowledge(third);
+            assertTrue(Files.exists(checkpoint));
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false)) {
+            assertEquals(0, spool.size());
+        }
+    }
+
+    @Test
+    void closeWritesTheLastCheckpoint() throws IOException {
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false, 100, 3_600_000)) {
+            spool.acknowledge(spool.append(ENDPOINT, bytes("first")));
+            spool.append(ENDPOINT, bytes("second"));
+        }
+
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, false)) {
+            assertEquals(1, spool.size());
+        }
+    }
+
+    @Test
+    void failedAppendLeavesNoTornRecord() throws IOException {
+        AtomicBoolean diskFull = new AtomicBoolean();
+        long first;
+        long third;
+        try (EventSpool spool = new EventSpool(directory, 1 << 20, true) {
+            @Override
+            FileChannel openChannel(Path file) throws IOException {
+                return new FailingChannel(super.openChannel(file), diskFull);
+            }
+        }) {
+            first = spool.append(ENDPOINT, bytes("first"));
+            diskFull.set(true);
+            assertThrows(IOException.class, () -> spool.append(ENDPOINT, bytes("second")));
+            diskFull.set(false);
+            third = spool.append(ENDPOINT, bytes("third"));
+
+            assertEquals(2, spool.size());
+            assertArrayEquals(bytes("third"), spool.read(third).getPayload());
+        }
+
+        try (EventSpool reopened = new EventSpool(directory, 1 << 20, true)) {
+            assertEquals(2, reopened.size());
+            assertArrayEquals(bytes("first"), reopened.read(first).getPayload());
+            assertArrayEquals(bytes("third"), reopened.read(third).getPayload());
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes only the first buffer of a gathering write and then fails, like a disk that
+     * filled up in the middle of a record
+     */
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel delegate;
+        private final AtomicBoolean failing;
+
+        FailingChannel(FileChannel delegate, AtomicBoolean failing) {
+            this.delegate = delegate;
+            this.failing = failing;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            if (failing.get()) {
+                delegate.write(srcs[offset]);
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(srcs, offset, length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failing.get()) {
+                throw new IOException("No space left on device");
+            }
+            return delegate.write(src);
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return delegate.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return delegate.read(dsts, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return delegate.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            delegate.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return delegate.size();
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            delegate.truncate(size);
+            return this;
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            delegate.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return delegate.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return delegate.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return delegate.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return delegate.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return delegate.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return delegate.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return delegate.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            delegate.close();
+        }
+    }
+}